@@ -0,0 +1,57 @@
+package com.example.accounts.benchmark;
+
+import com.example.accounts.dto.AccountsDto;
+import com.example.accounts.dto.CardsDto;
+import com.example.accounts.dto.CustomerAccountSnapshot;
+import com.example.accounts.dto.CustomerDetailsDto;
+import com.example.accounts.dto.CustomerDto;
+import com.example.accounts.dto.LoansDto;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static CustomerAccountSnapshot snapshot() {
+        return new CustomerAccountSnapshot(1L, "John Doe", "johndoe@gmail.com", "3809865342", 3L,
+                1000000042L, "Savings", "123 Main Street, New York", 5L);
+    }
+
+    static CustomerDto customerDto() {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("John Doe");
+        customerDto.setEmail("johndoe@gmail.com");
+        customerDto.setMobileNumber("3809865342");
+        return customerDto;
+    }
+
+    static CustomerDetailsDto customerDetailsDto() {
+        CustomerDetailsDto customerDetailsDto = new CustomerDetailsDto();
+        customerDetailsDto.setName("John Doe");
+        customerDetailsDto.setEmail("johndoe@gmail.com");
+        customerDetailsDto.setMobileNumber("3809865342");
+        AccountsDto accountsDto = new AccountsDto();
+        accountsDto.setAccountNumber(1000000042L);
+        accountsDto.setAccountType("Savings");
+        accountsDto.setBranchAddress("123 Main Street, New York");
+        accountsDto.setVersion(5L);
+        customerDetailsDto.setAccountsDto(accountsDto);
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber("3809865342");
+        cardsDto.setCardNumber("100000000042");
+        cardsDto.setCardType("Credit Card");
+        cardsDto.setTotalLimit(100000);
+        cardsDto.setAmountUsed(1000);
+        cardsDto.setAvailableAmount(99000);
+        customerDetailsDto.setCardsDto(cardsDto);
+        LoansDto loansDto = new LoansDto();
+        loansDto.setMobileNumber("3809865342");
+        loansDto.setLoanNumber("100000000042");
+        loansDto.setLoanType("Home Loan");
+        loansDto.setTotalLoan(100000);
+        loansDto.setAmountPaid(1000);
+        loansDto.setOutstandingAmount(99000);
+        customerDetailsDto.setLoansDto(loansDto);
+        return customerDetailsDto;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.accounts.benchmark;
+
+import com.example.accounts.dto.AccountsDto;
+import com.example.accounts.dto.CustomerAccountSnapshot;
+import com.example.accounts.dto.CustomerDetailsDto;
+import com.example.accounts.dto.CustomerDto;
+import com.example.accounts.entity.Accounts;
+import com.example.accounts.entity.Customer;
+import com.example.accounts.mapper.AccountMapper;
+import com.example.accounts.mapper.CustomerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping steps of the fetch, fetchCustomerDetails and create endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private CustomerAccountSnapshot snapshot;
+    private Customer customer;
+    private Accounts accounts;
+    private CustomerDto customerDto;
+
+    @Setup
+    public void setUp() {
+        snapshot = BenchmarkData.snapshot();
+        customer = new Customer();
+        customer.setCustomerId(snapshot.customerId());
+        customer.setName(snapshot.name());
+        customer.setEmail(snapshot.email());
+        customer.setMobileNumber(snapshot.mobileNumber());
+        accounts = new Accounts();
+        accounts.setAccountNumber(snapshot.accountNumber());
+        accounts.setCustomerId(snapshot.customerId());
+        accounts.setAccountType(snapshot.accountType());
+        accounts.setBranchAddress(snapshot.branchAddress());
+        customerDto = BenchmarkData.customerDto();
+    }
+
+    @Benchmark
+    public CustomerDto snapshotToCustomerDto() {
+        CustomerDto dto = CustomerMapper.mapToCustomerDto(snapshot, new CustomerDto());
+        dto.setAccountsDto(AccountMapper.mapToAccountsDto(snapshot, new AccountsDto()));
+        return dto;
+    }
+
+    @Benchmark
+    public CustomerDetailsDto snapshotToCustomerDetailsDto() {
+        CustomerDetailsDto dto = CustomerMapper.mapToCustomerDetailsDto(snapshot, new CustomerDetailsDto());
+        dto.setAccountsDto(AccountMapper.mapToAccountsDto(snapshot, new AccountsDto()));
+        return dto;
+    }
+
+    @Benchmark
+    public CustomerDetailsDto entitiesToCustomerDetailsDto() {
+        CustomerDetailsDto dto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
+        dto.setAccountsDto(AccountMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        return dto;
+    }
+
+    @Benchmark
+    public Customer customerDtoToCustomer() {
+        return CustomerMapper.mapToCustomer(customerDto, new Customer());
+    }
+}
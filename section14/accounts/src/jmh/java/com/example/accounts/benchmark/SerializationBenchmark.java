@@ -0,0 +1,62 @@
+package com.example.accounts.benchmark;
+
+import com.example.accounts.dto.CustomerDetailsDto;
+import com.example.accounts.dto.CustomerDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson on the response of fetchCustomerDetails and the request of the create endpoint, with and without the
+ * Blackbird module (accounts.jackson.blackbird). The ObjectMapper is built like the one of Spring Boot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private CustomerDetailsDto customerDetailsDto;
+    private byte[] customerDtoJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        customerDetailsDto = BenchmarkData.customerDetailsDto();
+        customerDtoJson = objectMapper.writeValueAsBytes(BenchmarkData.customerDto());
+    }
+
+    @Benchmark
+    public byte[] writeCustomerDetailsDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customerDetailsDto);
+    }
+
+    @Benchmark
+    public CustomerDto readCustomerDto() throws IOException {
+        return objectMapper.readValue(customerDtoJson, CustomerDto.class);
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.accounts;
 
+import com.example.accounts.config.AggregationProperties;
+import com.example.accounts.config.ConcurrencyLimitProperties;
+import com.example.accounts.config.DownstreamCacheProperties;
+import com.example.accounts.config.OutboxProperties;
 import com.example.accounts.dto.AccountsContactInfoDto;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
@@ -9,15 +13,20 @@ import io.swagger.v3.oas.annotations.info.License;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@EnableCaching
+@EnableScheduling
 @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
-@EnableConfigurationProperties(value = {AccountsContactInfoDto.class})
+@EnableConfigurationProperties(value = {AccountsContactInfoDto.class, AggregationProperties.class,
+        DownstreamCacheProperties.class, ConcurrencyLimitProperties.class, OutboxProperties.class})
 @OpenAPIDefinition(
         info = @Info(
                 title = "Accounts microservice REST API Documentation",
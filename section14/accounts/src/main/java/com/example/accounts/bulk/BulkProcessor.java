@@ -0,0 +1,162 @@
+package com.example.accounts.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams bulk imports and exports, so neither the uploaded file, the report nor the exported table is held
+ * in memory as a whole. CSV records must not span several lines.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkProcessor {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Reads one record per line, for CSV after a header line naming the columns. Malformed and invalid records
+     * are rejected right away, the valid ones are handed to saveChunk in chunks of chunkSize. The result of every
+     * record is written as one NDJSON line once its chunk is processed. If saveChunk fails, all records of the
+     * chunk are rejected and the import continues with the next chunk.
+     */
+    public <T> void importRecords(InputStream input, BulkFormat format, Class<T> type, int chunkSize,
+                                  Function<List<BulkRecord<T>>, List<BulkResultDto>> saveChunk,
+                                  OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long line = 0;
+        ObjectReader recordReader = objectMapper.readerFor(type);
+        if (format == BulkFormat.CSV) {
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            line++;
+            recordReader = csvReader(type, header);
+        }
+        List<BulkRecord<T>> chunk = new ArrayList<>(chunkSize);
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            BulkRecord<T> bulkRecord = parse(recordReader, text, line, output);
+            if (bulkRecord != null) {
+                chunk.add(bulkRecord);
+                if (chunk.size() == chunkSize) {
+                    saveChunk(chunk, saveChunk, output);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, saveChunk, output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Writes every record the source passes to its consumer as one line, for CSV after a header line.
+     */
+    public <T> void exportRecords(BulkFormat format, Class<T> type, Consumer<Consumer<T>> source,
+                                  OutputStream output) throws IOException {
+        if (format == BulkFormat.CSV) {
+            try (SequenceWriter writer = CSV_MAPPER.writerFor(type)
+                    .with(CSV_MAPPER.schemaFor(type).withHeader())
+                    .writeValues(output)) {
+                source.accept(value -> {
+                    try {
+                        writer.write(value);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        } else {
+            source.accept(value -> writeLine(value, output));
+        }
+        output.flush();
+    }
+
+    private <T> BulkRecord<T> parse(ObjectReader recordReader, String text, long line, OutputStream output) {
+        T value;
+        try {
+            value = recordReader.readValue(text);
+        } catch (JsonProcessingException ex) {
+            writeLine(BulkResultDto.rejected(line, "Malformed record: " + ex.getOriginalMessage()), output);
+            return null;
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            writeLine(BulkResultDto.rejected(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "))), output);
+            return null;
+        }
+        return new BulkRecord<>(line, value);
+    }
+
+    private <T> void saveChunk(List<BulkRecord<T>> chunk, Function<List<BulkRecord<T>>, List<BulkResultDto>> saveChunk,
+                               OutputStream output) throws IOException {
+        List<BulkResultDto> results;
+        try {
+            results = saveChunk.apply(chunk);
+        } catch (RuntimeException ex) {
+            log.warn("Bulk import chunk of lines {} to {} failed: {}", chunk.get(0).line(),
+                    chunk.get(chunk.size() - 1).line(), ex.toString());
+            results = chunk.stream()
+                    .map(bulkRecord -> BulkResultDto.rejected(bulkRecord.line(), "Chunk could not be saved"))
+                    .toList();
+        }
+        results.forEach(result -> writeLine(result, output));
+        output.flush();
+    }
+
+    private static <T> ObjectReader csvReader(Class<T> type, String header) {
+        CsvSchema.Builder schema = CsvSchema.builder();
+        for (String column : header.split(",")) {
+            schema.addColumn(column.trim());
+        }
+        return CSV_MAPPER.readerFor(type).with(schema.build());
+    }
+
+    private void writeLine(Object value, OutputStream output) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
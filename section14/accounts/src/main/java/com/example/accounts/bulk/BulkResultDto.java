@@ -0,0 +1,28 @@
+package com.example.accounts.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "BulkResult", description = "Schema to hold the result of one record of a bulk import")
+public record BulkResultDto(
+
+        @Schema(description = "Line of the record in the uploaded file", example = "2")
+        long line,
+
+        @Schema(description = "Outcome of the record", example = "CREATED")
+        Status status,
+
+        @Schema(description = "Why the record was rejected", example = "Mobile number must be 10 digits")
+        String errorMessage) {
+
+    public enum Status {
+        CREATED, REJECTED
+    }
+
+    public static BulkResultDto created(long line) {
+        return new BulkResultDto(line, Status.CREATED, null);
+    }
+
+    public static BulkResultDto rejected(long line, String errorMessage) {
+        return new BulkResultDto(line, Status.REJECTED, errorMessage);
+    }
+}
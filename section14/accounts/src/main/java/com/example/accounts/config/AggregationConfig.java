@@ -0,0 +1,48 @@
+package com.example.accounts.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AggregationConfig {
+
+    /**
+     * Bounded executor used to fan out the cards and loans calls of fetchCustomerDetails.
+     * When it is saturated further calls are rejected and their part of the response stays empty,
+     * so a request thread never ends up running a downstream call itself.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor customerDetailsExecutor(AggregationProperties aggregationProperties) {
+        ThreadPoolTaskExecutor executor = newCustomerDetailsExecutor(aggregationProperties);
+        executor.setThreadNamePrefix("customer-details-");
+        return executor;
+    }
+
+    /**
+     * Virtual thread variant used when spring.threads.virtual.enabled is set. The pool size and queue capacity
+     * bound the concurrent and pending calls the same way, with virtual threads as workers.
+     */
+    @Bean(name = "customerDetailsExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ThreadPoolTaskExecutor customerDetailsVirtualExecutor(AggregationProperties aggregationProperties) {
+        ThreadPoolTaskExecutor executor = newCustomerDetailsExecutor(aggregationProperties);
+        executor.setThreadFactory(Thread.ofVirtual().name("customer-details-", 0).factory());
+        return executor;
+    }
+
+    private static ThreadPoolTaskExecutor newCustomerDetailsExecutor(AggregationProperties aggregationProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aggregationProperties.getPoolSize());
+        executor.setMaxPoolSize(aggregationProperties.getPoolSize());
+        executor.setQueueCapacity(aggregationProperties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
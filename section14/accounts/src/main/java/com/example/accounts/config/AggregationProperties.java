@@ -0,0 +1,28 @@
+package com.example.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.aggregation")
+@Getter @Setter
+public class AggregationProperties {
+
+    /**
+     * Number of threads that call the downstream services in parallel.
+     */
+    private int poolSize = 16;
+
+    /**
+     * Number of pending downstream calls before further calls are rejected.
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * Deadline for every single downstream call. A call that misses it leaves its part of the response empty.
+     * The Feign read timeout of cards and loans should not be longer, so the call itself ends by then as well.
+     */
+    private Duration callTimeout = Duration.ofSeconds(2);
+}
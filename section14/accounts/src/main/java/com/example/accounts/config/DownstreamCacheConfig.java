@@ -0,0 +1,49 @@
+package com.example.accounts.config;
+
+import com.example.accounts.dto.CardsDto;
+import com.example.accounts.dto.LoansDto;
+import com.example.accounts.service.client.DownstreamResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class DownstreamCacheConfig {
+
+    /**
+     * Runs the background revalidations. When it is full further revalidations are dropped and the stale
+     * entry is served until a later request schedules one, so a request thread never runs a revalidation.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor downstreamRevalidationExecutor(DownstreamCacheProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getRevalidationPoolSize());
+        executor.setMaxPoolSize(properties.getRevalidationPoolSize());
+        executor.setQueueCapacity(properties.getRevalidationQueueCapacity());
+        executor.setThreadNamePrefix("downstream-revalidation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    @Bean
+    public DownstreamResponseCache<CardsDto> cardsResponseCache(DownstreamCacheProperties properties,
+                                                                @Qualifier("downstreamRevalidationExecutor")
+                                                                ThreadPoolTaskExecutor revalidationExecutor,
+                                                                MeterRegistry meterRegistry) {
+        return new DownstreamResponseCache<>("cardsResponses", properties.getFreshTtl(), properties.getStaleTtl(),
+                properties.getMaximumSize(), revalidationExecutor, meterRegistry);
+    }
+
+    @Bean
+    public DownstreamResponseCache<LoansDto> loansResponseCache(DownstreamCacheProperties properties,
+                                                                @Qualifier("downstreamRevalidationExecutor")
+                                                                ThreadPoolTaskExecutor revalidationExecutor,
+                                                                MeterRegistry meterRegistry) {
+        return new DownstreamResponseCache<>("loansResponses", properties.getFreshTtl(), properties.getStaleTtl(),
+                properties.getMaximumSize(), revalidationExecutor, meterRegistry);
+    }
+}
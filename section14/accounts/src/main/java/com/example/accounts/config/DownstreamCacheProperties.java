@@ -0,0 +1,37 @@
+package com.example.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.downstream-cache")
+@Getter @Setter
+public class DownstreamCacheProperties {
+
+    /**
+     * How long a cards or loans response is served without calling the downstream service.
+     */
+    private Duration freshTtl = Duration.ofSeconds(30);
+
+    /**
+     * How long after the fresh period a response is still served while it is refreshed in the background.
+     */
+    private Duration staleTtl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of mobile numbers kept per downstream service.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Number of threads that refresh stale entries in the background.
+     */
+    private int revalidationPoolSize = 4;
+
+    /**
+     * Number of pending refreshes before further ones are dropped.
+     */
+    private int revalidationQueueCapacity = 100;
+}
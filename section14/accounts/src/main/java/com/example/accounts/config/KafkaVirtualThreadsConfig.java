@@ -0,0 +1,27 @@
+package com.example.accounts.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class KafkaVirtualThreadsConfig {
+
+    /**
+     * Runs the consumers of the Kafka binder, e.g. updateCommunication, on virtual threads.
+     * Spring Boot only does this for its own listener container factory, not for the binder containers.
+     */
+    @Bean
+    public ListenerContainerCustomizer<AbstractMessageListenerContainer<?, ?>> virtualThreadsContainerCustomizer() {
+        return (container, destinationName, group) -> {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(destinationName + "-consumer-");
+            executor.setVirtualThreads(true);
+            container.getContainerProperties().setListenerTaskExecutor(executor);
+        };
+    }
+}
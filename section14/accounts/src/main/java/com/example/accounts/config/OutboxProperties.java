@@ -0,0 +1,47 @@
+package com.example.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.outbox")
+@Getter @Setter
+public class OutboxProperties {
+
+    /**
+     * Kafka topic the outbox events are published to.
+     */
+    private String topic = "send-communication";
+
+    /**
+     * Encoding of the published events. JSON until every message instance reads the binary format,
+     * both services read both.
+     */
+    private PayloadFormat payloadFormat = PayloadFormat.JSON;
+
+    /**
+     * Pause between two relay runs once the outbox is drained.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Number of events read and published per round trip.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Deadline for the broker to acknowledge a batch. Unacknowledged events are published again in the next run.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How long published events are kept before they are deleted.
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    public enum PayloadFormat {
+        JSON, BINARY
+    }
+}
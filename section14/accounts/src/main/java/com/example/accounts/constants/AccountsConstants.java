@@ -8,6 +8,10 @@ public class AccountsConstants {
 
     public static final String  SAVINGS = "Savings";
     public static final String  ADDRESS = "123 Main Street, New York";
+    public static final int  MAX_BATCH_SIZE = 500;
+    public static final int  BULK_CHUNK_SIZE = 500;
+    public static final String  CUSTOMERS_CACHE = "customers";
+    public static final String  SEND_COMMUNICATION_EVENT = "SEND_COMMUNICATION";
     public static final String  STATUS_201 = "201";
     public static final String  MESSAGE_201 = "Account created successfully";
     public static final String  STATUS_200 = "200";
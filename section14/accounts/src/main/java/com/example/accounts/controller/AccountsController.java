@@ -1,7 +1,11 @@
 package com.example.accounts.controller;
 
+import com.example.accounts.bulk.BulkFormat;
+import com.example.accounts.bulk.BulkProcessor;
+import com.example.accounts.bulk.BulkResultDto;
 import com.example.accounts.constants.AccountsConstants;
 import com.example.accounts.dto.AccountsContactInfoDto;
+import com.example.accounts.dto.CustomerAccountDto;
 import com.example.accounts.dto.CustomerDto;
 import com.example.accounts.dto.ErrorResponseDto;
 import com.example.accounts.dto.ResponseDto;
@@ -14,6 +18,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Tag(
         name = "CRUD REST APIs for Accounts in EazyBank",
@@ -46,6 +55,8 @@ public class AccountsController {
 
     private final AccountsContactInfoDto accountsContactInfoDto;
 
+    private final BulkProcessor bulkProcessor;
+
     @Operation(summary = "Create account REST API",
             description = "REST API to create new Customer & Account inside EazyBank")
     @ApiResponses({
@@ -166,6 +177,62 @@ public class AccountsController {
         }
     }
 
+    @Operation(summary = "Bulk import accounts REST API",
+            description = "REST API to create Customers & Accounts from an NDJSON or CSV upload, the result of every record is streamed back as NDJSON")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = BulkResultDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    @PostMapping(path = "/bulk/import", consumes = {BulkFormat.NDJSON_VALUE, BulkFormat.CSV_VALUE},
+            produces = BulkFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importAccounts(HttpServletRequest request) throws IOException {
+        BulkFormat format = BulkFormat.of(MediaType.parseMediaType(request.getContentType()));
+        InputStream input = request.getInputStream();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(BulkFormat.NDJSON.mediaType())
+                .body(output -> bulkProcessor.importRecords(input, format, CustomerDto.class,
+                        AccountsConstants.BULK_CHUNK_SIZE, accountService::createAccounts, output));
+    }
+
+    @Operation(summary = "Bulk export accounts REST API",
+            description = "REST API to stream all Customers with their Accounts as NDJSON or CSV")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    @GetMapping(path = "/bulk/export", produces = {BulkFormat.NDJSON_VALUE, BulkFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportAccounts(@RequestParam(defaultValue = "NDJSON") BulkFormat format) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(format.mediaType())
+                .body(output -> bulkProcessor.exportRecords(format, CustomerAccountDto.class,
+                        accountService::exportAccounts, output));
+    }
+
     @Operation(summary = "Get Build information REST API",
             description = "Get Build information that is deployed into accounts microservice")
     @ApiResponses({
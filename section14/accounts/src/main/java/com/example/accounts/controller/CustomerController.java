@@ -1,5 +1,6 @@
 package com.example.accounts.controller;
 
+import com.example.accounts.constants.AccountsConstants;
 import com.example.accounts.dto.CustomerDetailsDto;
 import com.example.accounts.dto.ErrorResponseDto;
 import com.example.accounts.service.ICustomerService;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(
         name = "REST APIs for Customers in EazyBank",
         description = "REST APIs in EazyBank to FETCH customer details"
@@ -60,4 +64,36 @@ public class CustomerController {
                 .status(HttpStatus.OK)
                 .body(customerDetailsDto);
     }
+
+    @PostMapping("/fetchCustomerDetailsBatch")
+    @Operation(summary = "Fetch Customer Details in batch REST API",
+            description = "REST API to fetch Customer details for a list of mobile numbers in a single call")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    public ResponseEntity<List<CustomerDetailsDto>> fetchCustomerDetailsBatch(
+                                            @RequestHeader("eazybank-correlation-id") String correlationId,
+                                            @RequestBody
+                                            @Size(max = AccountsConstants.MAX_BATCH_SIZE,
+                                                    message = "At most " + AccountsConstants.MAX_BATCH_SIZE + " mobile numbers are allowed")
+                                            List<@Pattern(regexp = "(^$|[0-9]{10})", message = "Mobile number must be 10 digits")
+                                                    String> mobileNumbers) {
+        log.debug("fetchCustomerDetailsBatch method start");
+        List<CustomerDetailsDto> customerDetailsDtos = customerService.fetchCustomerDetailsBatch(mobileNumbers, correlationId);
+        log.debug("fetchCustomerDetailsBatch method end");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(customerDetailsDtos);
+    }
 }
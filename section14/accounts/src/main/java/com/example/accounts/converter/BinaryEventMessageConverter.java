@@ -0,0 +1,57 @@
+package com.example.accounts.converter;
+
+import com.example.accounts.dto.AccountsMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes the events in the EventCodec format. Payloads that are not binary encoded are read as JSON,
+ * so events published before a producer switched its content type are still consumed.
+ */
+public class BinaryEventMessageConverter extends AbstractMessageConverter {
+
+    public static final MimeType BINARY_EVENT = MimeType.valueOf("application/x-eazybank-event");
+
+    private final ObjectMapper objectMapper;
+
+    public BinaryEventMessageConverter(ObjectMapper objectMapper) {
+        super(BINARY_EVENT);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return AccountsMessageDto.class.equals(clazz) || Long.class.equals(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] bytes)) {
+            return null;
+        }
+        try {
+            if (!EventCodec.isEncoded(bytes)) {
+                return objectMapper.readValue(bytes, targetClass);
+            }
+            return Long.class.equals(targetClass)
+                    ? EventCodec.decodeAccountNumber(bytes)
+                    : EventCodec.decodeAccountsMessage(bytes);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new MessageConversionException(message, "Could not read " + targetClass.getSimpleName(), ex);
+        }
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+        return payload instanceof Long accountNumber
+                ? EventCodec.encode(accountNumber)
+                : EventCodec.encode((AccountsMessageDto) payload);
+    }
+}
@@ -22,4 +22,7 @@ public class AccountsDto {
     @Schema(description = "Eazy Bank branch address", example = "672a Los Angeles")
     @NotEmpty(message = "BranchAddress can not be a null or empty")
     private String branchAddress;
+
+    @Schema(description = "Version of the account details, an update is rejected if the account was changed since", example = "0")
+    private Long version;
 }
@@ -0,0 +1,28 @@
+package com.example.accounts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Flat view of a customer and its account, used by the bulk export so it can be written as CSV as well.
+ */
+@Schema(name = "CustomerAccount", description = "Schema to hold Customer and Account information in one row")
+public record CustomerAccountDto(
+
+        @Schema(description = "Name of the customer", example = "John Doe")
+        String name,
+
+        @Schema(description = "Email address of the customer", example = "johndoe@gmail.com")
+        String email,
+
+        @Schema(description = "Mobile number of the customer", example = "3809865342")
+        String mobileNumber,
+
+        @Schema(description = "Account Number of Eazy Bank account", example = "8672412176")
+        Long accountNumber,
+
+        @Schema(description = "Account type of Eazy Bank account", example = "Savings")
+        String accountType,
+
+        @Schema(description = "Eazy Bank branch address", example = "123 NewYork")
+        String branchAddress) {
+}
@@ -0,0 +1,9 @@
+package com.example.accounts.dto;
+
+/**
+ * Immutable copy of a customer and its account, kept in the customers cache instead of the JPA entities.
+ */
+public record CustomerAccountSnapshot(Long customerId, String name, String email, String mobileNumber,
+                                      Long customerVersion, Long accountNumber, String accountType,
+                                      String branchAddress, Long accountVersion) {
+}
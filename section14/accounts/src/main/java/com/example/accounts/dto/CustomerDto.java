@@ -23,6 +23,9 @@ public class CustomerDto {
     @Pattern(regexp = "(^$|[0-9]{10})", message = "Mobile number must be 10 digits")
     private String mobileNumber;
 
+    @Schema(description = "Version of the customer details, an update is rejected if the customer was changed since", example = "0")
+    private Long version;
+
     @Schema(description = "Account details of the customer")
     private AccountsDto accountsDto;
 }
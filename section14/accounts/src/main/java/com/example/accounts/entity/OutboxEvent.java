@@ -0,0 +1,40 @@
+package com.example.accounts.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event written in the same transaction as the change it describes and published to Kafka afterwards.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter @Setter @ToString
+@AllArgsConstructor @NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_id", updatable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", updatable = false)
+    private String eventType;
+
+    @Column(name = "payload", updatable = false)
+    private String payload;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 @Slf4j
@@ -18,4 +19,16 @@ public class AccountsFunctions {
             accountService.updateCommunicationStatus(accountNumber);
         };
     }
+
+    /**
+     * Batch variant of updateCommunication, bound with batch-mode so it receives all records of a poll.
+     * The offsets are committed once the whole batch is updated.
+     */
+    @Bean
+    public Consumer<List<Long>> updateCommunicationBatch(IAccountService accountService) {
+        return accountNumbers -> {
+            int updated = accountService.updateCommunicationStatus(accountNumbers);
+            log.info("Updated Communication status for {} of {} received account numbers", updated, accountNumbers.size());
+        };
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.accounts.mapper;
 
 import com.example.accounts.dto.AccountsDto;
+import com.example.accounts.dto.CustomerAccountSnapshot;
 import com.example.accounts.entity.Accounts;
 
 public class AccountMapper {
@@ -9,6 +10,15 @@ public class AccountMapper {
         accountsDto.setAccountNumber(accounts.getAccountNumber());
         accountsDto.setAccountType(accounts.getAccountType());
         accountsDto.setBranchAddress(accounts.getBranchAddress());
+        accountsDto.setVersion(accounts.getVersion());
+        return accountsDto;
+    }
+
+    public static AccountsDto mapToAccountsDto(CustomerAccountSnapshot snapshot, AccountsDto accountsDto) {
+        accountsDto.setAccountNumber(snapshot.accountNumber());
+        accountsDto.setAccountType(snapshot.accountType());
+        accountsDto.setBranchAddress(snapshot.branchAddress());
+        accountsDto.setVersion(snapshot.accountVersion());
         return accountsDto;
     }
 
@@ -1,5 +1,6 @@
 package com.example.accounts.mapper;
 
+import com.example.accounts.dto.CustomerAccountSnapshot;
 import com.example.accounts.dto.CustomerDetailsDto;
 import com.example.accounts.dto.CustomerDto;
 import com.example.accounts.entity.Customer;
@@ -10,6 +11,7 @@ public class CustomerMapper {
         customerDto.setName(customer.getName());
         customerDto.setEmail(customer.getEmail());
         customerDto.setMobileNumber(customer.getMobileNumber());
+        customerDto.setVersion(customer.getVersion());
         return customerDto;
     }
 
@@ -20,6 +22,22 @@ public class CustomerMapper {
         return customerDetailsDto;
     }
 
+    public static CustomerDto mapToCustomerDto(CustomerAccountSnapshot snapshot, CustomerDto customerDto) {
+        customerDto.setName(snapshot.name());
+        customerDto.setEmail(snapshot.email());
+        customerDto.setMobileNumber(snapshot.mobileNumber());
+        customerDto.setVersion(snapshot.customerVersion());
+        return customerDto;
+    }
+
+    public static CustomerDetailsDto mapToCustomerDetailsDto(CustomerAccountSnapshot snapshot,
+                                                             CustomerDetailsDto customerDetailsDto) {
+        customerDetailsDto.setName(snapshot.name());
+        customerDetailsDto.setEmail(snapshot.email());
+        customerDetailsDto.setMobileNumber(snapshot.mobileNumber());
+        return customerDetailsDto;
+    }
+
     public static Customer mapToCustomer(CustomerDto customerDto, Customer customer) {
         customer.setName(customerDto.getName());
         customer.setEmail(customerDto.getEmail());
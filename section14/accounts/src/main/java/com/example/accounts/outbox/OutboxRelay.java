@@ -0,0 +1,136 @@
+package com.example.accounts.outbox;
+
+import com.example.accounts.config.OutboxProperties;
+import com.example.accounts.constants.AccountsConstants;
+import com.example.accounts.converter.EventCodec;
+import com.example.accounts.dto.AccountsMessageDto;
+import com.example.accounts.entity.OutboxEvent;
+import com.example.accounts.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the events of the outbox table to Kafka in batches. All events of a batch are handed to the
+ * producer at once, so they share its linger and batch settings, and are marked as published only after the
+ * broker acknowledged all of them. A failed batch stays in the table and is published again by the next run,
+ * consumers therefore have to tolerate duplicates.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SchedulingConfigurer {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+    private final Counter publishedEvents;
+    private final Timer batchTimer;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPendingEvent = new AtomicReference<>();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, KafkaTemplate<String, byte[]> kafkaTemplate,
+                       OutboxProperties outboxProperties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxProperties = outboxProperties;
+        this.objectMapper = objectMapper;
+        this.publishedEvents = meterRegistry.counter("outbox.events.published");
+        this.batchTimer = meterRegistry.timer("outbox.batch.publish");
+        Gauge.builder("outbox.events.pending", pendingEvents, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", oldestPendingEvent, OutboxRelay::lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::relay, outboxProperties.getPollInterval());
+    }
+
+    /**
+     * Publishes batches until the outbox is drained or a batch fails.
+     */
+    public void relay() {
+        try {
+            List<OutboxEvent> batch;
+            do {
+                batch = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(
+                        Limit.of(outboxProperties.getBatchSize()));
+                if (!batch.isEmpty()) {
+                    publish(batch);
+                }
+            } while (batch.size() == outboxProperties.getBatchSize());
+            outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(outboxProperties.getRetention()));
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay run failed, pending events are retried in the next run: {}", ex.toString());
+        } finally {
+            updateLag();
+        }
+    }
+
+    private void publish(List<OutboxEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        CompletableFuture<?>[] sends = batch.stream()
+                .map(event -> kafkaTemplate.send(outboxProperties.getTopic(), event.getAggregateId(), encode(event)))
+                .toArray(CompletableFuture[]::new);
+        kafkaTemplate.flush();
+        CompletableFuture.allOf(sends).orTimeout(outboxProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .join();
+        outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        sample.stop(batchTimer);
+        publishedEvents.increment(batch.size());
+        log.debug("Published {} outbox events", batch.size());
+    }
+
+    /**
+     * The outbox keeps the JSON payload, it is converted when it is published so the format can be switched
+     * without touching stored events.
+     */
+    private byte[] encode(OutboxEvent event) {
+        if (outboxProperties.getPayloadFormat() == OutboxProperties.PayloadFormat.BINARY
+                && AccountsConstants.SEND_COMMUNICATION_EVENT.equals(event.getEventType())) {
+            try {
+                return EventCodec.encode(objectMapper.readValue(event.getPayload(), AccountsMessageDto.class));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not read the payload of outbox event " + event.getId(), ex);
+            }
+        }
+        return event.getPayload().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void updateLag() {
+        try {
+            pendingEvents.set(outboxEventRepository.countByPublishedAtIsNull());
+            oldestPendingEvent.set(outboxEventRepository.findFirstByPublishedAtIsNullOrderByIdAsc()
+                    .map(OutboxEvent::getCreatedAt)
+                    .orElse(null));
+        } catch (RuntimeException ex) {
+            log.debug("Could not read the outbox lag: {}", ex.toString());
+        }
+    }
+
+    private static double lagSeconds(AtomicReference<LocalDateTime> oldestPendingEvent) {
+        LocalDateTime oldest = oldestPendingEvent.get();
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
@@ -4,8 +4,13 @@ import com.example.accounts.entity.Accounts;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,7 +18,35 @@ public interface AccountRepository extends JpaRepository<Accounts, Long> {
 
     Optional<Accounts> findByCustomerId(Long customerId);
 
+    List<Accounts> findAllByCustomerIdIn(Collection<Long> customerIds);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Accounts a where a.customerId in"
+            + " (select c.customerId from Customer c where c.mobileNumber = :mobileNumber)")
+    int deleteByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    /**
+     * Updates the account in one statement. If a version is given, only an account still at that version is updated.
+     *
+     * @return number of updated accounts, 0 if there is no such account or its version differs
+     */
+    @Transactional
+    @Modifying
+    @Query("update Accounts a set a.accountType = :accountType, a.branchAddress = :branchAddress,"
+            + " a.version = a.version + 1, a.updatedAt = :updatedAt, a.updatedBy = :updatedBy"
+            + " where a.accountNumber = :accountNumber and (:version is null or a.version = :version)")
+    int updateAccount(@Param("accountNumber") Long accountNumber, @Param("accountType") String accountType,
+                      @Param("branchAddress") String branchAddress, @Param("version") Long version,
+                      @Param("updatedAt") LocalDateTime updatedAt, @Param("updatedBy") String updatedBy);
+
+    @Query("select a from Accounts a where a.accountNumber in :accountNumbers"
+            + " and (a.communicationSwitch is null or a.communicationSwitch = false)")
+    List<Accounts> findPendingCommunication(@Param("accountNumbers") Collection<Long> accountNumbers);
+
     @Transactional
     @Modifying
-    void deleteByCustomerId(Long customerId);
+    @Query("update Accounts a set a.communicationSwitch = true where a.accountNumber in :accountNumbers"
+            + " and (a.communicationSwitch is null or a.communicationSwitch = false)")
+    int enableCommunicationSwitch(@Param("accountNumbers") Collection<Long> accountNumbers);
 }
@@ -1,13 +1,79 @@
 package com.example.accounts.repository;
 
+import com.example.accounts.constants.AccountsConstants;
+import com.example.accounts.dto.CustomerAccountDto;
+import com.example.accounts.dto.CustomerAccountSnapshot;
 import com.example.accounts.entity.Customer;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByMobileNumber(String mobileNumber);
+
+    /**
+     * Reads the customer together with its account in one query. The result is cached as an immutable snapshot.
+     */
+    @Cacheable(cacheNames = AccountsConstants.CUSTOMERS_CACHE, unless = "#result == null")
+    @Query("select new com.example.accounts.dto.CustomerAccountSnapshot(c.customerId, c.name, c.email,"
+            + " c.mobileNumber, c.version, a.accountNumber, a.accountType, a.branchAddress, a.version)"
+            + " from Customer c join Accounts a on a.customerId = c.customerId where c.mobileNumber = :mobileNumber")
+    Optional<CustomerAccountSnapshot> findSnapshotByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    List<Customer> findAllByMobileNumberIn(Collection<String> mobileNumbers);
+
+    @Query("select count(c) > 0 from Customer c join Accounts a on a.customerId = c.customerId"
+            + " where a.accountNumber = :accountNumber")
+    boolean existsByAccountNumber(@Param("accountNumber") Long accountNumber);
+
+    @Query("select c.mobileNumber from Customer c join Accounts a on a.customerId = c.customerId"
+            + " where a.accountNumber = :accountNumber")
+    Optional<String> findMobileNumberByAccountNumber(@Param("accountNumber") Long accountNumber);
+
+    /**
+     * Updates the customer owning the account in one statement. If a version is given, only a customer still at
+     * that version is updated.
+     *
+     * @return number of updated customers, 0 if there is no such customer or its version differs
+     */
+    @Transactional
+    @Modifying
+    @Query("update Customer c set c.name = :name, c.email = :email, c.mobileNumber = :mobileNumber,"
+            + " c.version = c.version + 1, c.updatedAt = :updatedAt, c.updatedBy = :updatedBy"
+            + " where c.customerId = (select a.customerId from Accounts a where a.accountNumber = :accountNumber)"
+            + " and (:version is null or c.version = :version)")
+    int updateByAccountNumber(@Param("accountNumber") Long accountNumber, @Param("name") String name,
+                              @Param("email") String email, @Param("mobileNumber") String mobileNumber,
+                              @Param("version") Long version, @Param("updatedAt") LocalDateTime updatedAt,
+                              @Param("updatedBy") String updatedBy);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Customer c where c.mobileNumber = :mobileNumber")
+    int deleteByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    /**
+     * Reads the rows through a cursor in batches of the fetch size, the caller has to close the stream.
+     * The rows are mapped to DTOs directly, so no entities are kept in the persistence context.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.accounts.dto.CustomerAccountDto(c.name, c.email, c.mobileNumber,"
+            + " a.accountNumber, a.accountType, a.branchAddress)"
+            + " from Customer c join Accounts a on a.customerId = c.customerId")
+    Stream<CustomerAccountDto> streamCustomerAccounts();
 }
@@ -1,7 +1,14 @@
 package com.example.accounts.service;
 
+import com.example.accounts.bulk.BulkRecord;
+import com.example.accounts.bulk.BulkResultDto;
+import com.example.accounts.dto.CustomerAccountDto;
 import com.example.accounts.dto.CustomerDto;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface IAccountService {
 
     /**
@@ -37,4 +44,24 @@ public interface IAccountService {
      * @return boolean indicating if the update of communication status is successful or not
      */
     boolean updateCommunicationStatus(Long accountNumber);
+
+    /**
+     *
+     * @param accountNumbers - Account numbers, duplicates are allowed
+     * @return number of accounts whose communication status was updated
+     */
+    int updateCommunicationStatus(Collection<Long> accountNumbers);
+
+    /**
+     *
+     * @param customers - Validated customers of one import chunk
+     * @return the result of every given customer
+     */
+    List<BulkResultDto> createAccounts(List<BulkRecord<CustomerDto>> customers);
+
+    /**
+     *
+     * @param consumer - Receives every customer together with its account
+     */
+    void exportAccounts(Consumer<CustomerAccountDto> consumer);
 }
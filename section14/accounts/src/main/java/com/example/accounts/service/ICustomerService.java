@@ -2,6 +2,8 @@ package com.example.accounts.service;
 
 import com.example.accounts.dto.CustomerDetailsDto;
 
+import java.util.List;
+
 public interface ICustomerService {
 
     /**
@@ -9,4 +11,10 @@ public interface ICustomerService {
      * @return Customer Details based on a given mobileNumber
      */
     CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId);
+
+    /**
+     * @param mobileNumbers - Input Mobile Numbers
+     * @return Customer Details of every given mobileNumber that belongs to a customer
+     */
+    List<CustomerDetailsDto> fetchCustomerDetailsBatch(List<String> mobileNumbers, String correlationId);
 }
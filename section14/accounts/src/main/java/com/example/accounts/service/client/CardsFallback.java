@@ -1,13 +1,25 @@
 package com.example.accounts.service.client;
 
 import com.example.accounts.dto.CardsDto;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
+@RequiredArgsConstructor
 public class CardsFallback implements CardsFeignClient{
+
+    private final DownstreamResponseCache<CardsDto> cardsResponseCache;
+
     @Override
     public ResponseEntity<CardsDto> fetchCardDetails(String correlationId, String mobileNumber) {
+        return cardsResponseCache.lastKnown(mobileNumber);
+    }
+
+    @Override
+    public ResponseEntity<List<CardsDto>> fetchBatchCardDetails(String correlationId, List<String> mobileNumbers) {
         return null;
     }
 }
@@ -4,13 +4,21 @@ import com.example.accounts.dto.CardsDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(value = "cards", url = "http://cards:9000", fallback = CardsFallback.class)
+import java.util.List;
+
+@FeignClient(value = "cards", url = "http://cards:9000", dismiss404 = true, fallback = CardsFallback.class)
 public interface CardsFeignClient {
 
      @GetMapping(value = "/api/fetch", consumes = "application/json")
      ResponseEntity<CardsDto> fetchCardDetails(@RequestHeader("eazybank-correlation-id") String correlationId,
                                                @RequestParam String mobileNumber);
+
+     @PostMapping(value = "/api/fetchBatch", consumes = "application/json")
+     ResponseEntity<List<CardsDto>> fetchBatchCardDetails(@RequestHeader("eazybank-correlation-id") String correlationId,
+                                                          @RequestBody List<String> mobileNumbers);
 }
@@ -0,0 +1,114 @@
+package com.example.accounts.service.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Response cache for a downstream Feign client, keyed by mobile number.
+ * Fresh entries are served without a call. Stale entries are still served while a single background
+ * call refreshes them. Entries older than fresh + stale TTL are dropped and the next call waits for
+ * the downstream service again. A 404 from the downstream service removes the entry right away.
+ */
+@Slf4j
+public class DownstreamResponseCache<T> {
+
+    /**
+     * Marks a response served from the cache by a fallback so it is never stored back as a fresh value.
+     */
+    public static final String STALE_RESPONSE_HEADER = "eazybank-stale-response";
+
+    private final String name;
+    private final long freshTtlNanos;
+    private final Executor executor;
+    private final Cache<String, Entry<T>> entries;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    public DownstreamResponseCache(String name, Duration freshTtl, Duration staleTtl, long maximumSize,
+                                   Executor executor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.freshTtlNanos = freshTtl.toNanos();
+        this.executor = executor;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(freshTtl.plus(staleTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, name);
+    }
+
+    /**
+     * @param mobileNumber - cache key
+     * @param loader - the downstream call
+     * @return the cached response when one is available, otherwise the response of the loader
+     */
+    public ResponseEntity<T> get(String mobileNumber, Supplier<ResponseEntity<T>> loader) {
+        Entry<T> entry = entries.getIfPresent(mobileNumber);
+        if (entry == null) {
+            ResponseEntity<T> responseEntity = loader.get();
+            store(mobileNumber, responseEntity);
+            return responseEntity;
+        }
+        if (System.nanoTime() - entry.storedAt() > freshTtlNanos) {
+            revalidate(mobileNumber, loader);
+        }
+        return ResponseEntity.ok(entry.value());
+    }
+
+    /**
+     * @param mobileNumber - cache key
+     * @return the last known good response marked as stale, or null if there is none
+     */
+    public ResponseEntity<T> lastKnown(String mobileNumber) {
+        Entry<T> entry = entries.getIfPresent(mobileNumber);
+        if (entry == null) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .header(STALE_RESPONSE_HEADER, "true")
+                .body(entry.value());
+    }
+
+    private void revalidate(String mobileNumber, Supplier<ResponseEntity<T>> loader) {
+        if (!revalidating.add(mobileNumber)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    store(mobileNumber, loader.get());
+                } catch (RuntimeException ex) {
+                    log.warn("Revalidation of {} cache entry failed: {}", name, ex.toString());
+                } finally {
+                    revalidating.remove(mobileNumber);
+                }
+            });
+        } catch (RuntimeException ex) {
+            revalidating.remove(mobileNumber);
+            log.warn("Revalidation of {} cache entry was not scheduled: {}", name, ex.toString());
+        }
+    }
+
+    private void store(String mobileNumber, ResponseEntity<T> responseEntity) {
+        if (responseEntity != null && responseEntity.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+            entries.invalidate(mobileNumber);
+        } else if (responseEntity != null && responseEntity.getStatusCode().is2xxSuccessful()
+                && responseEntity.getBody() != null
+                && !responseEntity.getHeaders().containsKey(STALE_RESPONSE_HEADER)) {
+            entries.put(mobileNumber, new Entry<>(responseEntity.getBody(), System.nanoTime()));
+        }
+    }
+
+    private record Entry<T>(T value, long storedAt) {
+    }
+}
@@ -1,13 +1,25 @@
 package com.example.accounts.service.client;
 
 import com.example.accounts.dto.LoansDto;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
+@RequiredArgsConstructor
 public class LoansFallback implements LoansFeignClient{
+
+    private final DownstreamResponseCache<LoansDto> loansResponseCache;
+
     @Override
     public ResponseEntity<LoansDto> fetchLoanDetails(String correlationId, String mobileNumber) {
+        return loansResponseCache.lastKnown(mobileNumber);
+    }
+
+    @Override
+    public ResponseEntity<List<LoansDto>> fetchBatchLoanDetails(String correlationId, List<String> mobileNumbers) {
         return null;
     }
 }
@@ -4,13 +4,21 @@ import com.example.accounts.dto.LoansDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(value = "loans", url = "http://loans:8090", fallback = LoansFallback.class)
+import java.util.List;
+
+@FeignClient(value = "loans", url = "http://loans:8090", dismiss404 = true, fallback = LoansFallback.class)
 public interface LoansFeignClient {
      
      @GetMapping(value = "/api/fetch", consumes = "application/json")
      ResponseEntity<LoansDto> fetchLoanDetails(@RequestHeader("eazybank-correlation-id") String correlationId,
                                                @RequestParam String mobileNumber);
+
+     @PostMapping(value = "/api/fetchBatch", consumes = "application/json")
+     ResponseEntity<List<LoansDto>> fetchBatchLoanDetails(@RequestHeader("eazybank-correlation-id") String correlationId,
+                                                          @RequestBody List<String> mobileNumbers);
 }
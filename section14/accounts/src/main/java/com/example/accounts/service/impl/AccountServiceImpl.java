@@ -1,25 +1,51 @@
 package com.example.accounts.service.impl;
 
+import com.example.accounts.bulk.BulkRecord;
+import com.example.accounts.bulk.BulkResultDto;
 import com.example.accounts.constants.AccountsConstants;
 import com.example.accounts.dto.AccountsDto;
 import com.example.accounts.dto.AccountsMessageDto;
+import com.example.accounts.dto.CustomerAccountDto;
+import com.example.accounts.dto.CustomerAccountSnapshot;
 import com.example.accounts.dto.CustomerDto;
 import com.example.accounts.entity.Accounts;
 import com.example.accounts.entity.Customer;
+import com.example.accounts.entity.OutboxEvent;
 import com.example.accounts.exception.CustomerAlreadyExistsException;
 import com.example.accounts.exception.ResourceNotFoundException;
+import com.example.accounts.generator.AccountNumberGenerator;
 import com.example.accounts.mapper.AccountMapper;
 import com.example.accounts.mapper.CustomerMapper;
 import com.example.accounts.repository.AccountRepository;
 import com.example.accounts.repository.CustomerRepository;
+import com.example.accounts.repository.OutboxEventRepository;
 import com.example.accounts.service.IAccountService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
-import java.util.Random;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -28,67 +54,101 @@ public class AccountServiceImpl implements IAccountService {
 
     private final AccountRepository accountRepository;
     private final CustomerRepository customerRepository;
-    private final StreamBridge streamBridge;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final MeterRegistry meterRegistry;
+    private final AuditorAware<String> auditorAware;
 
     /**
+     * The communication event is stored in the outbox in the same transaction and published by the OutboxRelay,
+     * so it is neither lost nor does a slow broker delay the account creation.
+     *
      * @param customerDto - CustomerDto Object
      */
     @Override
+    @Transactional
     public void createAccount(CustomerDto customerDto) {
         Customer customer = CustomerMapper.mapToCustomer(customerDto, new Customer());
-        Optional<Customer> optionalCustomer = customerRepository.findByMobileNumber(customer.getMobileNumber());
-        if (optionalCustomer.isPresent()) {
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException ex) {
             throw new CustomerAlreadyExistsException("Customer already registered with given mobile number " +
                     customerDto.getMobileNumber());
         }
-        Customer savedCustomer = customerRepository.save(customer);
         Accounts savedAccount = accountRepository.save(createNewAccount(savedCustomer));
         sendCommunication(savedAccount, savedCustomer);
     }
 
     @Override
     public CustomerDto fetchAccount(String mobileNumber) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber)
+        CustomerAccountSnapshot snapshot = customerRepository.findSnapshotByMobileNumber(mobileNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber));
 
-        Accounts accounts = accountRepository.findByCustomerId(customer.getCustomerId())
-                .orElseThrow(() -> new ResourceNotFoundException
-                        ("Account", "customerId", customer.getCustomerId().toString()));
-
-        CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
-        customerDto.setAccountsDto(AccountMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        CustomerDto customerDto = CustomerMapper.mapToCustomerDto(snapshot, new CustomerDto());
+        customerDto.setAccountsDto(AccountMapper.mapToAccountsDto(snapshot, new AccountsDto()));
         return customerDto;
     }
 
+    /**
+     * Updates the account and its customer with one statement each, without reading them first. If the DTOs carry
+     * a version, the update fails when the row was changed since then. The mobile number is read before the update,
+     * so the cache entries of both the replaced and the new number are evicted.
+     *
+     * @param customerDto - CustomerDto Object
+     * @return true if the account was updated
+     */
     @Override
+    @Transactional
     public boolean updateAccount(CustomerDto customerDto) {
         boolean isUpdated = false;
         AccountsDto accountsDto = customerDto.getAccountsDto();
         if (accountsDto != null) {
-            Accounts accounts = accountRepository.findById(accountsDto.getAccountNumber())
-                    .orElseThrow(() -> new ResourceNotFoundException
-                            ("Account", "AccountNumber", accountsDto.getAccountNumber().toString()));
-
-            AccountMapper.mapToAccounts(accountsDto, accounts);
-            accounts = accountRepository.save(accounts);
-
-            Long customerId = accounts.getCustomerId();
-            Customer customer = customerRepository.findById(customerId)
-                    .orElseThrow(() -> new ResourceNotFoundException
-                            ("Customer", "CustomerId", customerId.toString()));
-            CustomerMapper.mapToCustomer(customerDto, customer);
-            customerRepository.save(customer);
+            Long accountNumber = accountsDto.getAccountNumber();
+            LocalDateTime updatedAt = LocalDateTime.now();
+            String updatedBy = auditorAware.getCurrentAuditor().orElse(null);
+
+            if (accountRepository.updateAccount(accountNumber, accountsDto.getAccountType(),
+                    accountsDto.getBranchAddress(), accountsDto.getVersion(), updatedAt, updatedBy) == 0) {
+                if (accountsDto.getVersion() != null && accountRepository.existsById(accountNumber)) {
+                    throw new OptimisticLockingFailureException("Account " + accountNumber
+                            + " was changed since version " + accountsDto.getVersion());
+                }
+                throw new ResourceNotFoundException("Account", "AccountNumber", String.valueOf(accountNumber));
+            }
+            String previousMobileNumber = customerRepository.findMobileNumberByAccountNumber(accountNumber)
+                    .orElse(null);
+            if (customerRepository.updateByAccountNumber(accountNumber, customerDto.getName(), customerDto.getEmail(),
+                    customerDto.getMobileNumber(), customerDto.getVersion(), updatedAt, updatedBy) == 0) {
+                if (customerDto.getVersion() != null && customerRepository.existsByAccountNumber(accountNumber)) {
+                    throw new OptimisticLockingFailureException("Customer of account " + accountNumber
+                            + " was changed since version " + customerDto.getVersion());
+                }
+                throw new ResourceNotFoundException("Customer", "AccountNumber", String.valueOf(accountNumber));
+            }
+            if (previousMobileNumber == null || previousMobileNumber.equals(customerDto.getMobileNumber())) {
+                evictCustomersAfterCommit(customerDto.getMobileNumber());
+            } else {
+                evictCustomersAfterCommit(previousMobileNumber, customerDto.getMobileNumber());
+            }
             isUpdated = true;
         }
         return isUpdated;
     }
 
+    /**
+     * Deletes the account and the customer by mobile number with one statement each.
+     */
     @Override
+    @Transactional
     public boolean deleteAccount(String mobileNumber) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber));
-        accountRepository.deleteByCustomerId(customer.getCustomerId());
-        customerRepository.deleteById(customer.getCustomerId());
+        accountRepository.deleteByMobileNumber(mobileNumber);
+        if (customerRepository.deleteByMobileNumber(mobileNumber) == 0) {
+            throw new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber);
+        }
+        evictCustomersAfterCommit(mobileNumber);
         return true;
     }
 
@@ -96,17 +156,87 @@ public class AccountServiceImpl implements IAccountService {
     public boolean updateCommunicationStatus(Long accountNumber) {
         boolean isUpdated = false;
         if (accountNumber != null) {
-            Accounts accounts = accountRepository.findById(accountNumber)
-                    .orElseThrow(() -> new ResourceNotFoundException
-                            ("Account", "AccountNumber", accountNumber.toString()));
-
-            accounts.setCommunicationSwitch(true);
-            accountRepository.save(accounts);
+            if (updateCommunicationStatus(List.of(accountNumber)) == 0 && !accountRepository.existsById(accountNumber)) {
+                throw new ResourceNotFoundException("Account", "AccountNumber", accountNumber.toString());
+            }
             isUpdated = true;
         }
         return isUpdated;
     }
 
+    /**
+     * Updates all given accounts with one statement instead of a find and a save per account.
+     * Accounts whose communication was already confirmed are left untouched, so redelivered events are not counted.
+     * The communication switch is not part of the cached snapshot, so nothing has to be evicted.
+     *
+     * @param accountNumbers - Account numbers, duplicates are allowed
+     * @return number of accounts whose communication status was updated
+     */
+    @Override
+    public int updateCommunicationStatus(Collection<Long> accountNumbers) {
+        List<Long> distinctAccountNumbers = accountNumbers.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctAccountNumbers.isEmpty()) {
+            return 0;
+        }
+        List<Accounts> pending = accountRepository.findPendingCommunication(distinctAccountNumbers);
+        int updated = accountRepository.enableCommunicationSwitch(distinctAccountNumbers);
+        pending.forEach(this::recordCommunicationLatency);
+        return updated;
+    }
+
+    /**
+     * Creates the customers, their accounts and communication events of a whole chunk in one transaction,
+     * each with one batched insert per table.
+     *
+     * @param customers - Validated customers of one import chunk
+     * @return the result of every given customer
+     */
+    @Override
+    @Transactional
+    public List<BulkResultDto> createAccounts(List<BulkRecord<CustomerDto>> customers) {
+        Set<String> takenMobileNumbers = customerRepository.findAllByMobileNumberIn(
+                        customers.stream().map(customer -> customer.value().getMobileNumber()).toList()).stream()
+                .map(Customer::getMobileNumber)
+                .collect(Collectors.toCollection(HashSet::new));
+        List<BulkResultDto> results = new ArrayList<>(customers.size());
+        List<Customer> newCustomers = new ArrayList<>(customers.size());
+        for (BulkRecord<CustomerDto> customer : customers) {
+            String mobileNumber = customer.value().getMobileNumber();
+            if (takenMobileNumbers.add(mobileNumber)) {
+                newCustomers.add(CustomerMapper.mapToCustomer(customer.value(), new Customer()));
+                results.add(BulkResultDto.created(customer.line()));
+            } else {
+                results.add(BulkResultDto.rejected(customer.line(),
+                        "Customer already registered with given mobile number " + mobileNumber));
+            }
+        }
+        List<Customer> savedCustomers = customerRepository.saveAll(newCustomers);
+        List<Accounts> savedAccounts = accountRepository.saveAll(savedCustomers.stream()
+                .map(this::createNewAccount)
+                .toList());
+        List<OutboxEvent> outboxEvents = new ArrayList<>(savedAccounts.size());
+        for (int i = 0; i < savedAccounts.size(); i++) {
+            outboxEvents.add(newCommunicationEvent(savedAccounts.get(i), savedCustomers.get(i)));
+        }
+        outboxEventRepository.saveAll(outboxEvents);
+        log.info("Stored {} Communication requests in the outbox for imported accounts", outboxEvents.size());
+        return results;
+    }
+
+    /**
+     * @param consumer - Receives every customer together with its account
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAccounts(Consumer<CustomerAccountDto> consumer) {
+        try (Stream<CustomerAccountDto> customerAccounts = customerRepository.streamCustomerAccounts()) {
+            customerAccounts.forEach(consumer);
+        }
+    }
+
     /**
      * @param customer - Customer Object
      * @return the new account details
@@ -114,20 +244,71 @@ public class AccountServiceImpl implements IAccountService {
     private Accounts createNewAccount(Customer customer) {
         Accounts newAccount = new Accounts();
         newAccount.setCustomerId(customer.getCustomerId());
-        long randomAccNumber = 1000000000L + new Random().nextInt(900000000);
-
-        newAccount.setAccountNumber(randomAccNumber);
+        newAccount.setAccountNumber(accountNumberGenerator.nextAccountNumber());
         newAccount.setAccountType(AccountsConstants.SAVINGS);
         newAccount.setBranchAddress(AccountsConstants.ADDRESS);
         return newAccount;
     }
 
+    /**
+     * Time from the account creation until the message service confirmed the communication, covering the outbox,
+     * both Kafka topics and the notification pipeline.
+     */
+    private void recordCommunicationLatency(Accounts accounts) {
+        if (accounts.getCreatedAt() != null) {
+            meterRegistry.timer("accounts.communication.latency")
+                    .record(Duration.between(accounts.getCreatedAt(), LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Evicts once the transaction has committed. Evicting earlier lets a concurrent read put the
+     * uncommitted state back into the cache.
+     */
+    private void evictCustomersAfterCommit(String... mobileNumbers) {
+        Cache cache = cacheManager.getCache(AccountsConstants.CUSTOMERS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        Runnable evict = () -> {
+            for (String mobileNumber : mobileNumbers) {
+                cache.evict(mobileNumber);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
     private void sendCommunication(Accounts account, Customer customer) {
+        OutboxEvent outboxEvent = newCommunicationEvent(account, customer);
+        log.info("Storing Communication request in the outbox for the details: {}", outboxEvent.getPayload());
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private OutboxEvent newCommunicationEvent(Accounts account, Customer customer) {
         var accountsMessageDto = new AccountsMessageDto(account.getAccountNumber(),
                 customer.getName(), customer.getEmail(), customer.getMobileNumber());
-        log.info("Sending Communication request for the details: {}", accountsMessageDto);
-        boolean result = streamBridge.send("sendCommunication-out-0", accountsMessageDto);
-        log.info("Is the Communication request successfully triggered? : {}", result);
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateId(account.getAccountNumber().toString());
+        outboxEvent.setEventType(AccountsConstants.SEND_COMMUNICATION_EVENT);
+        outboxEvent.setPayload(toJson(accountsMessageDto));
+        outboxEvent.setCreatedAt(LocalDateTime.now());
+        return outboxEvent;
+    }
 
+    private String toJson(AccountsMessageDto accountsMessageDto) {
+        try {
+            return objectMapper.writeValueAsString(accountsMessageDto);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the Communication request", ex);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.example.accounts.service.impl;
 
+import com.example.accounts.config.AggregationProperties;
 import com.example.accounts.dto.*;
 import com.example.accounts.entity.Accounts;
 import com.example.accounts.entity.Customer;
@@ -10,11 +11,27 @@ import com.example.accounts.repository.AccountRepository;
 import com.example.accounts.repository.CustomerRepository;
 import com.example.accounts.service.ICustomerService;
 import com.example.accounts.service.client.CardsFeignClient;
+import com.example.accounts.service.client.DownstreamResponseCache;
 import com.example.accounts.service.client.LoansFeignClient;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @AllArgsConstructor
 public class CustomersServiceImpl implements ICustomerService {
@@ -23,31 +40,119 @@ public class CustomersServiceImpl implements ICustomerService {
     private final CustomerRepository customerRepository;
     private final CardsFeignClient cardsFeignClient;
     private final LoansFeignClient loansFeignClient;
+    @Qualifier("customerDetailsExecutor")
+    private final Executor customerDetailsExecutor;
+    private final AggregationProperties aggregationProperties;
+    private final DownstreamResponseCache<CardsDto> cardsResponseCache;
+    private final DownstreamResponseCache<LoansDto> loansResponseCache;
 
     /**
+     * The customer is resolved first, so an unknown mobile number fails without any downstream call. The lookup
+     * is usually served from the customers cache. Loans and cards are then requested in parallel, so the response
+     * time is bounded by the slower call instead of the sum of both. Both calls go through the downstream response
+     * caches, so a recent answer is reused instead of waiting on the service.
+     *
      * @param mobileNumber - Input Mobile Number
      * @return Customer Details based on a given mobileNumber
      */
     @Override
     public CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber)
+        CustomerAccountSnapshot snapshot = customerRepository.findSnapshotByMobileNumber(mobileNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber));
 
-        Accounts accounts = accountRepository.findByCustomerId(customer.getCustomerId())
-                .orElseThrow(() -> new ResourceNotFoundException
-                        ("Account", "customerId", customer.getCustomerId().toString()));
+        CompletableFuture<LoansDto> loansFuture = fetchAsync("loans",
+                () -> loansResponseCache.get(mobileNumber,
+                        () -> loansFeignClient.fetchLoanDetails(correlationId, mobileNumber)), correlationId);
+        CompletableFuture<CardsDto> cardsFuture = fetchAsync("cards",
+                () -> cardsResponseCache.get(mobileNumber,
+                        () -> cardsFeignClient.fetchCardDetails(correlationId, mobileNumber)), correlationId);
 
-        var customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
-        customerDetailsDto.setAccountsDto(AccountMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(snapshot, new CustomerDetailsDto());
+        customerDetailsDto.setAccountsDto(AccountMapper.mapToAccountsDto(snapshot, new AccountsDto()));
 
-        ResponseEntity<LoansDto> loansDtoResponseEntity = loansFeignClient.fetchLoanDetails(correlationId, mobileNumber);
-        ResponseEntity<CardsDto> cardsDtoResponseEntity = cardsFeignClient.fetchCardDetails(correlationId, mobileNumber);
+        customerDetailsDto.setLoansDto(loansFuture.join());
+        customerDetailsDto.setCardsDto(cardsFuture.join());
+        return customerDetailsDto;
+    }
 
-        if(null != loansDtoResponseEntity){
-            customerDetailsDto.setLoansDto(loansDtoResponseEntity.getBody());
-        }if(null != cardsDtoResponseEntity){
-            customerDetailsDto.setCardsDto(cardsDtoResponseEntity.getBody());
+    /**
+     * Resolves all customers and accounts with one query each and calls the batch endpoints of
+     * loans and cards once, instead of repeating the single lookup for every mobile number.
+     * Only the mobile numbers that belong to a customer are sent downstream, the accounts query runs
+     * while loans and cards answer.
+     *
+     * @param mobileNumbers - Input Mobile Numbers
+     * @return Customer Details of every given mobileNumber that belongs to a customer, in request order
+     */
+    @Override
+    public List<CustomerDetailsDto> fetchCustomerDetailsBatch(List<String> mobileNumbers, String correlationId) {
+        Map<String, Customer> customers = customerRepository.findAllByMobileNumberIn(
+                        List.copyOf(new LinkedHashSet<>(mobileNumbers))).stream()
+                .collect(Collectors.toMap(Customer::getMobileNumber, Function.identity()));
+        List<String> knownMobileNumbers = mobileNumbers.stream()
+                .distinct()
+                .filter(customers::containsKey)
+                .toList();
+        if (knownMobileNumbers.isEmpty()) {
+            return List.of();
         }
-        return customerDetailsDto;
+        CompletableFuture<List<LoansDto>> loansFuture = fetchAsync("loans",
+                () -> loansFeignClient.fetchBatchLoanDetails(correlationId, knownMobileNumbers), correlationId);
+        CompletableFuture<List<CardsDto>> cardsFuture = fetchAsync("cards",
+                () -> cardsFeignClient.fetchBatchCardDetails(correlationId, knownMobileNumbers), correlationId);
+
+        Map<Long, Accounts> accounts = accountRepository.findAllByCustomerIdIn(
+                        customers.values().stream().map(Customer::getCustomerId).toList()).stream()
+                .collect(Collectors.toMap(Accounts::getCustomerId, Function.identity()));
+
+        Map<String, LoansDto> loans = indexByMobileNumber(loansFuture.join(), LoansDto::getMobileNumber);
+        Map<String, CardsDto> cards = indexByMobileNumber(cardsFuture.join(), CardsDto::getMobileNumber);
+
+        return knownMobileNumbers.stream()
+                .map(mobileNumber -> {
+                    Customer customer = customers.get(mobileNumber);
+                    var customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
+                    Accounts account = accounts.get(customer.getCustomerId());
+                    if (null != account) {
+                        customerDetailsDto.setAccountsDto(AccountMapper.mapToAccountsDto(account, new AccountsDto()));
+                    }
+                    customerDetailsDto.setLoansDto(loans.get(mobileNumber));
+                    customerDetailsDto.setCardsDto(cards.get(mobileNumber));
+                    return customerDetailsDto;
+                })
+                .toList();
+    }
+
+    private static <T> Map<String, T> indexByMobileNumber(List<T> dtos, Function<T, String> mobileNumber) {
+        if (null == dtos) {
+            return Collections.emptyMap();
+        }
+        return dtos.stream().collect(Collectors.toMap(mobileNumber, Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * Runs a downstream call on the aggregation executor. A failed, late or rejected call completes with null,
+     * the same partial result the Feign fallbacks produce. The deadline on the future only stops the wait,
+     * the call itself is ended by the Feign timeouts configured under spring.cloud.openfeign.client.
+     */
+    private <T> CompletableFuture<T> fetchAsync(String service, Supplier<ResponseEntity<T>> call, String correlationId) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                ResponseEntity<T> responseEntity = call.get();
+                return null != responseEntity && responseEntity.getStatusCode().is2xxSuccessful()
+                        ? responseEntity.getBody() : null;
+            }, customerDetailsExecutor);
+        } catch (TaskRejectedException ex) {
+            log.warn("Call to {} rejected for correlation id {}: aggregation executor is saturated",
+                    service, correlationId);
+            return CompletableFuture.completedFuture(null);
+        }
+        return future
+                .orTimeout(aggregationProperties.getCallTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Call to {} failed for correlation id {}: {}", service, correlationId, ex.toString());
+                    return null;
+                });
     }
 }
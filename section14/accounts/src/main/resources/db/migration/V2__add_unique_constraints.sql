@@ -0,0 +1,3 @@
+ALTER TABLE `customer` ADD CONSTRAINT `uk_customer_mobile_number` UNIQUE (`mobile_number`);
+
+ALTER TABLE `accounts` ADD CONSTRAINT `uk_accounts_customer_id` UNIQUE (`customer_id`);
@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS `account_number_seq` START WITH 1000000000 INCREMENT BY 100;
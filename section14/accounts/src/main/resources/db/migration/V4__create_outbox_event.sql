@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS `outbox_event`
+(
+    `id`           bigint AUTO_INCREMENT PRIMARY KEY,
+    `aggregate_id` varchar(50)   NOT NULL,
+    `event_type`   varchar(50)   NOT NULL,
+    `payload`      varchar(4000) NOT NULL,
+    `created_at`   timestamp     NOT NULL,
+    `published_at` timestamp DEFAULT NULL
+);
+
+CREATE INDEX `idx_outbox_event_published_at` ON `outbox_event` (`published_at`, `id`);
@@ -0,0 +1,2 @@
+-- accounts.communication.latency is measured from created_at, a date would drop the time of day
+ALTER TABLE `accounts` ALTER COLUMN `created_at` SET DATA TYPE timestamp;
@@ -0,0 +1,3 @@
+ALTER TABLE `customer` ADD COLUMN `version` bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE `accounts` ADD COLUMN `version` bigint NOT NULL DEFAULT 0;
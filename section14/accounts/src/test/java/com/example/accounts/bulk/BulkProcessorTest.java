@@ -0,0 +1,136 @@
+package com.example.accounts.bulk;
+
+import com.example.accounts.dto.CustomerDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkProcessorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final BulkProcessor bulkProcessor = new BulkProcessor(objectMapper, validatorFactory.getValidator());
+    private final List<List<Long>> savedChunks = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void savesValidRecordsInChunksOfChunkSize() throws IOException {
+        List<BulkResultDto> results = importNdjson(2, createAll(),
+                customer("John Doe", "1000000001"),
+                customer("Jane Doe", "1000000002"),
+                customer("Jack Doe", "1000000003"),
+                customer("Jill Doe", "1000000004"),
+                customer("Jake Doe", "1000000005"));
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), savedChunks);
+        assertEquals(List.of(BulkResultDto.created(1), BulkResultDto.created(2), BulkResultDto.created(3),
+                BulkResultDto.created(4), BulkResultDto.created(5)), results);
+    }
+
+    @Test
+    void rejectsMalformedAndInvalidRecordsWithTheirLine() throws IOException {
+        List<BulkResultDto> results = importNdjson(10, createAll(),
+                customer("John Doe", "1000000001"),
+                "{\"name\":",
+                customer("Jane Doe", "12345"),
+                "",
+                customer("Jack Doe", "1000000003"));
+
+        assertEquals(List.of(List.of(1L, 5L)), savedChunks);
+        assertEquals(4, results.size());
+        assertEquals(2, results.get(0).line());
+        assertEquals(BulkResultDto.Status.REJECTED, results.get(0).status());
+        assertTrue(results.get(0).errorMessage().startsWith("Malformed record"));
+        assertEquals(BulkResultDto.rejected(3, "Mobile number must be 10 digits"), results.get(1));
+        assertEquals(List.of(BulkResultDto.created(1), BulkResultDto.created(5)), results.subList(2, 4));
+    }
+
+    @Test
+    void rejectsWholeChunkWhenItCannotBeSavedAndContinues() throws IOException {
+        Function<List<BulkRecord<CustomerDto>>, List<BulkResultDto>> failFirstChunk = chunk -> {
+            if (savedChunks.isEmpty()) {
+                savedChunks.add(lines(chunk));
+                throw new IllegalStateException("Database unavailable");
+            }
+            return createAll().apply(chunk);
+        };
+
+        List<BulkResultDto> results = importNdjson(2, failFirstChunk,
+                customer("John Doe", "1000000001"),
+                customer("Jane Doe", "1000000002"),
+                customer("Jack Doe", "1000000003"));
+
+        assertEquals(List.of(BulkResultDto.rejected(1, "Chunk could not be saved"),
+                BulkResultDto.rejected(2, "Chunk could not be saved"),
+                BulkResultDto.created(3)), results);
+    }
+
+    @Test
+    void readsCsvRecordsAfterHeaderLine() throws IOException {
+        String csv = """
+                mobileNumber,name,email
+                1000000001,John Doe,john@example.com
+                12345,Jane Doe,jane@example.com
+                """;
+
+        List<BulkResultDto> results = importRecords(csv, BulkFormat.CSV, 10, createAll());
+
+        assertEquals(List.of(List.of(2L)), savedChunks);
+        assertEquals(List.of(BulkResultDto.rejected(3, "Mobile number must be 10 digits"),
+                BulkResultDto.created(2)), results);
+    }
+
+    private Function<List<BulkRecord<CustomerDto>>, List<BulkResultDto>> createAll() {
+        return chunk -> {
+            savedChunks.add(lines(chunk));
+            return chunk.stream().map(bulkRecord -> BulkResultDto.created(bulkRecord.line())).toList();
+        };
+    }
+
+    private List<BulkResultDto> importNdjson(int chunkSize,
+                                             Function<List<BulkRecord<CustomerDto>>, List<BulkResultDto>> saveChunk,
+                                             String... lines) throws IOException {
+        return importRecords(String.join("\n", lines), BulkFormat.NDJSON, chunkSize, saveChunk);
+    }
+
+    private List<BulkResultDto> importRecords(String input, BulkFormat format, int chunkSize,
+                                              Function<List<BulkRecord<CustomerDto>>, List<BulkResultDto>> saveChunk)
+            throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bulkProcessor.importRecords(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format,
+                CustomerDto.class, chunkSize, saveChunk, output);
+        List<BulkResultDto> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readValue(line, BulkResultDto.class));
+            }
+        }
+        return results;
+    }
+
+    private static List<Long> lines(List<BulkRecord<CustomerDto>> chunk) {
+        return chunk.stream().map(BulkRecord::line).toList();
+    }
+
+    private static String customer(String name, String mobileNumber) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + mobileNumber + "@example.com\",\"mobileNumber\":\""
+                + mobileNumber + "\"}";
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.accounts.converter;
+
+import com.example.accounts.dto.AccountsMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryEventMessageConverterTest {
+
+    private final BinaryEventMessageConverter converter = new BinaryEventMessageConverter(new ObjectMapper());
+
+    @Test
+    void encodesAndDecodesAccountsMessage() {
+        AccountsMessageDto accountsMessageDto = new AccountsMessageDto(1234567890L, "Jürgen Müller",
+                "jurgen@example.com", null);
+
+        byte[] bytes = EventCodec.encode(accountsMessageDto);
+
+        assertTrue(EventCodec.isEncoded(bytes));
+        assertEquals(accountsMessageDto, EventCodec.decodeAccountsMessage(bytes));
+    }
+
+    @Test
+    void readsBinaryAccountNumber() {
+        assertEquals(Long.MAX_VALUE, converter.fromMessage(message(EventCodec.encode(Long.MAX_VALUE)), Long.class));
+    }
+
+    @Test
+    void fallsBackToJsonAccountNumber() {
+        assertEquals(1234L, converter.fromMessage(message("1234".getBytes(StandardCharsets.UTF_8)), Long.class));
+    }
+
+    @Test
+    void rejectsEventOfAnotherType() {
+        byte[] accountsMessage = EventCodec.encode(new AccountsMessageDto(1L, "Ivan", "ivan@example.com", "0123456789"));
+
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message(accountsMessage), Long.class));
+    }
+
+    private static Message<byte[]> message(byte[] payload) {
+        return MessageBuilder.withPayload(payload).build();
+    }
+}
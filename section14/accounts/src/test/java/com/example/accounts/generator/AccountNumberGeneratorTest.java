@@ -0,0 +1,82 @@
+package com.example.accounts.generator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountNumberGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int NUMBERS_PER_THREAD = 1_000;
+    private static final long START = 1000000000L;
+
+    private final SingleConnectionDataSource database = new SingleConnectionDataSource(
+            "jdbc:h2:mem:account_number_seq;DB_CLOSE_DELAY=-1", "sa", "", true);
+    private final AtomicInteger sequenceCalls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(database).execute("DROP SEQUENCE IF EXISTS account_number_seq");
+        database.destroy();
+    }
+
+    @Test
+    void handsOutUniqueNumbersAndHitsTheSequenceOncePerBlock() throws Exception {
+        new JdbcTemplate(database).execute("CREATE SEQUENCE account_number_seq START WITH " + START
+                + " INCREMENT BY " + AccountNumberGenerator.BLOCK_SIZE);
+        AccountNumberGenerator generator = new AccountNumberGenerator(new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                sequenceCalls.incrementAndGet();
+                return super.getConnection();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> numbers = new ArrayList<>(NUMBERS_PER_THREAD);
+                    for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                        numbers.add(generator.nextAccountNumber());
+                    }
+                    return numbers;
+                }));
+            }
+            start.countDown();
+            Set<Long> accountNumbers = new HashSet<>();
+            for (Future<List<Long>> result : results) {
+                accountNumbers.addAll(result.get());
+            }
+
+            int total = THREADS * NUMBERS_PER_THREAD;
+            assertEquals(total, accountNumbers.size());
+            assertEquals(total / AccountNumberGenerator.BLOCK_SIZE, sequenceCalls.get());
+            for (long number = START; number < START + total; number++) {
+                assertTrue(accountNumbers.contains(number), "missing number " + number);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
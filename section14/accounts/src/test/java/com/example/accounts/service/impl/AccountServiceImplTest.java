@@ -0,0 +1,162 @@
+package com.example.accounts.service.impl;
+
+import com.example.accounts.constants.AccountsConstants;
+import com.example.accounts.dto.AccountsDto;
+import com.example.accounts.dto.CustomerDto;
+import com.example.accounts.exception.ResourceNotFoundException;
+import com.example.accounts.generator.AccountNumberGenerator;
+import com.example.accounts.repository.AccountRepository;
+import com.example.accounts.repository.CustomerRepository;
+import com.example.accounts.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountServiceImplTest {
+
+    private static final Long ACCOUNT_NUMBER = 1234567890L;
+    private static final String MOBILE_NUMBER = "1000000001";
+    private static final String PREVIOUS_MOBILE_NUMBER = "1000000002";
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(AccountsConstants.CUSTOMERS_CACHE);
+    private final AccountServiceImpl accountService = new AccountServiceImpl(accountRepository, customerRepository,
+            mock(OutboxEventRepository.class), new ObjectMapper(), cacheManager, mock(AccountNumberGenerator.class),
+            new SimpleMeterRegistry(), () -> Optional.of("test"));
+
+    @Test
+    void updatesAccountAndCustomerAndEvictsCustomer() {
+        Cache cache = cacheManager.getCache(AccountsConstants.CUSTOMERS_CACHE);
+        cache.put(MOBILE_NUMBER, "stale");
+        accountUpdates(1);
+        customerUpdates(1);
+
+        assertTrue(accountService.updateAccount(customerDto(0L, 0L)));
+
+        verify(customerRepository).updateByAccountNumber(eq(ACCOUNT_NUMBER), eq("John Doe"), eq("john@example.com"),
+                eq(MOBILE_NUMBER), eq(0L), any(), eq("test"));
+        assertNull(cache.get(MOBILE_NUMBER));
+    }
+
+    @Test
+    void evictsReplacedAndNewMobileNumber() {
+        Cache cache = cacheManager.getCache(AccountsConstants.CUSTOMERS_CACHE);
+        cache.put(PREVIOUS_MOBILE_NUMBER, "stale");
+        cache.put(MOBILE_NUMBER, "stale");
+        when(customerRepository.findMobileNumberByAccountNumber(ACCOUNT_NUMBER))
+                .thenReturn(Optional.of(PREVIOUS_MOBILE_NUMBER));
+        accountUpdates(1);
+        customerUpdates(1);
+
+        assertTrue(accountService.updateAccount(customerDto(0L, 0L)));
+
+        assertNull(cache.get(PREVIOUS_MOBILE_NUMBER));
+        assertNull(cache.get(MOBILE_NUMBER));
+    }
+
+    @Test
+    void rejectsAccountUpdateOfChangedVersionWithConflict() {
+        accountUpdates(0);
+        when(accountRepository.existsById(ACCOUNT_NUMBER)).thenReturn(true);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> accountService.updateAccount(customerDto(0L, 0L)));
+        verify(customerRepository, never()).updateByAccountNumber(anyLong(), anyString(), anyString(), anyString(),
+                any(), any(), any());
+    }
+
+    @Test
+    void rejectsAccountUpdateOfMissingAccountWithNotFound() {
+        accountUpdates(0);
+        when(accountRepository.existsById(ACCOUNT_NUMBER)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> accountService.updateAccount(customerDto(0L, 0L)));
+    }
+
+    @Test
+    void rejectsUnversionedAccountUpdateWithNotFound() {
+        accountUpdates(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> accountService.updateAccount(customerDto(null, null)));
+        verify(accountRepository, never()).existsById(any());
+    }
+
+    @Test
+    void rejectsCustomerUpdateOfChangedVersionWithConflict() {
+        accountUpdates(1);
+        customerUpdates(0);
+        when(customerRepository.existsByAccountNumber(ACCOUNT_NUMBER)).thenReturn(true);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> accountService.updateAccount(customerDto(0L, 0L)));
+    }
+
+    @Test
+    void rejectsUnversionedCustomerUpdateWithNotFound() {
+        accountUpdates(1);
+        customerUpdates(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> accountService.updateAccount(customerDto(null, null)));
+        verify(customerRepository, never()).existsByAccountNumber(any());
+    }
+
+    @Test
+    void deletesAccountAndEvictsCustomer() {
+        Cache cache = cacheManager.getCache(AccountsConstants.CUSTOMERS_CACHE);
+        cache.put(MOBILE_NUMBER, "stale");
+        when(customerRepository.deleteByMobileNumber(MOBILE_NUMBER)).thenReturn(1);
+
+        assertTrue(accountService.deleteAccount(MOBILE_NUMBER));
+
+        verify(accountRepository).deleteByMobileNumber(MOBILE_NUMBER);
+        assertNull(cache.get(MOBILE_NUMBER));
+    }
+
+    @Test
+    void rejectsDeleteOfMissingCustomerWithNotFound() {
+        when(customerRepository.deleteByMobileNumber(MOBILE_NUMBER)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> accountService.deleteAccount(MOBILE_NUMBER));
+    }
+
+    private void accountUpdates(int rows) {
+        when(accountRepository.updateAccount(eq(ACCOUNT_NUMBER), anyString(), anyString(), any(), any(), any()))
+                .thenReturn(rows);
+    }
+
+    private void customerUpdates(int rows) {
+        when(customerRepository.updateByAccountNumber(eq(ACCOUNT_NUMBER), anyString(), anyString(), anyString(),
+                any(), any(), any())).thenReturn(rows);
+    }
+
+    private static CustomerDto customerDto(Long customerVersion, Long accountVersion) {
+        AccountsDto accountsDto = new AccountsDto();
+        accountsDto.setAccountNumber(ACCOUNT_NUMBER);
+        accountsDto.setAccountType(AccountsConstants.SAVINGS);
+        accountsDto.setBranchAddress(AccountsConstants.ADDRESS);
+        accountsDto.setVersion(accountVersion);
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("John Doe");
+        customerDto.setEmail("john@example.com");
+        customerDto.setMobileNumber(MOBILE_NUMBER);
+        customerDto.setVersion(customerVersion);
+        customerDto.setAccountsDto(accountsDto);
+        return customerDto;
+    }
+}
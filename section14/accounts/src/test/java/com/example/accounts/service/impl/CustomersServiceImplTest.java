@@ -0,0 +1,57 @@
+package com.example.accounts.service.impl;
+
+import com.example.accounts.config.AggregationProperties;
+import com.example.accounts.dto.CardsDto;
+import com.example.accounts.dto.LoansDto;
+import com.example.accounts.exception.ResourceNotFoundException;
+import com.example.accounts.repository.AccountRepository;
+import com.example.accounts.repository.CustomerRepository;
+import com.example.accounts.service.client.CardsFeignClient;
+import com.example.accounts.service.client.DownstreamResponseCache;
+import com.example.accounts.service.client.LoansFeignClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CustomersServiceImplTest {
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CardsFeignClient cardsFeignClient = mock(CardsFeignClient.class);
+    private final LoansFeignClient loansFeignClient = mock(LoansFeignClient.class);
+    private final Executor customerDetailsExecutor = mock(Executor.class);
+    @SuppressWarnings("unchecked")
+    private final DownstreamResponseCache<CardsDto> cardsResponseCache = mock(DownstreamResponseCache.class);
+    @SuppressWarnings("unchecked")
+    private final DownstreamResponseCache<LoansDto> loansResponseCache = mock(DownstreamResponseCache.class);
+    private final CustomersServiceImpl customersService = new CustomersServiceImpl(accountRepository,
+            customerRepository, cardsFeignClient, loansFeignClient, customerDetailsExecutor,
+            new AggregationProperties(), cardsResponseCache, loansResponseCache);
+
+    @Test
+    void unknownCustomerFailsWithoutDownstreamCalls() {
+        when(customerRepository.findSnapshotByMobileNumber("1000000001")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> customersService.fetchCustomerDetails("1000000001", "correlation-id"));
+        verifyNoInteractions(customerDetailsExecutor, cardsResponseCache, loansResponseCache);
+    }
+
+    @Test
+    void batchOfUnknownCustomersMakesNoDownstreamCalls() {
+        when(customerRepository.findAllByMobileNumberIn(any())).thenReturn(List.of());
+
+        assertTrue(customersService.fetchCustomerDetailsBatch(List.of("1000000001", "1000000002"),
+                "correlation-id").isEmpty());
+        verifyNoInteractions(customerDetailsExecutor, cardsFeignClient, loansFeignClient, accountRepository);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.cards.constants;
+
+public final class CardsConstants {
+
+    private CardsConstants() {
+        // restrict instantiation
+    }
+
+    public static final String  CREDIT_CARD = "Credit Card";
+    public static final int  NEW_CARD_LIMIT = 1_000_00;
+    public static final int  MAX_BATCH_SIZE = 500;
+    public static final String  STATUS_201 = "201";
+    public static final String  MESSAGE_201 = "Card created successfully";
+    public static final String  STATUS_200 = "200";
+    public static final String  MESSAGE_200 = "Request processed successfully";
+    public static final String  STATUS_417 = "417";
+    public static final String  MESSAGE_417_UPDATE= "Update operation failed. Please try again or contact Dev team";
+    public static final String  MESSAGE_417_DELETE= "Delete operation failed. Please try again or contact Dev team";
+    // public static final String  STATUS_500 = "500";
+    // public static final String  MESSAGE_500 = "An error occurred. Please try again or contact Dev team";
+
+}
@@ -0,0 +1,292 @@
+package com.example.cards.controller;
+
+import com.example.cards.constants.CardsConstants;
+import com.example.cards.dto.CardsContactInfoDto;
+import com.example.cards.dto.CardsDto;
+import com.example.cards.dto.ErrorResponseDto;
+import com.example.cards.dto.ResponseDto;
+import com.example.cards.service.ICardsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * @author Eazy Bytes
+ */
+
+@Tag(
+        name = "CRUD REST APIs for Cards in EazyBank",
+        description = "CRUD REST APIs in EazyBank to CREATE, UPDATE, FETCH AND DELETE card details"
+)
+@RestController
+@RequestMapping(path = "/api", produces = {MediaType.APPLICATION_JSON_VALUE})
+@Slf4j
+@RequiredArgsConstructor
+@Validated
+public class CardsController {
+
+    private final ICardsService iCardsService;
+
+    @Value("${build.version}")
+    private String buildVersion;
+
+    private final Environment environment;
+
+    private final CardsContactInfoDto cardsContactInfoDto;
+
+    @Operation(
+            summary = "Create Card REST API",
+            description = "REST API to create new Card inside EazyBank"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "HTTP Status CREATED"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    @PostMapping("/create")
+    public Mono<ResponseEntity<ResponseDto>> createCard(@RequestParam
+                                                        @Pattern(regexp = "(^$|[0-9]{10})",
+                                                                message = "Mobile number must be 10 digits")
+                                                        String mobileNumber) {
+        return iCardsService.createCard(mobileNumber)
+                .thenReturn(ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(new ResponseDto(CardsConstants.STATUS_201, CardsConstants.MESSAGE_201)));
+    }
+
+    @Operation(
+            summary = "Fetch Card Details REST API",
+            description = "REST API to fetch card details based on a mobile number"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @GetMapping("/fetch")
+    public Mono<ResponseEntity<CardsDto>> fetchCardDetails(@RequestParam
+                                                           @Pattern(regexp = "(^$|[0-9]{10})",
+                                                                   message = "Mobile number must be 10 digits")
+                                                           String mobileNumber) {
+        log.debug("fetchCardDetails method start");
+        return iCardsService.fetchCard(mobileNumber)
+                .map(cardsDto -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(cardsDto))
+                .doFinally(signal -> log.debug("fetchCardDetails method end"));
+    }
+
+    @Operation(
+            summary = "Fetch Card Details in batch REST API",
+            description = "REST API to fetch card details for a list of mobile numbers in a single call"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping("/fetchBatch")
+    public Mono<ResponseEntity<List<CardsDto>>> fetchBatchCardDetails(@RequestBody
+                                                                      @Size(max = CardsConstants.MAX_BATCH_SIZE,
+                                                                              message = "At most " + CardsConstants.MAX_BATCH_SIZE + " mobile numbers are allowed")
+                                                                      List<@Pattern(regexp = "(^$|[0-9]{10})",
+                                                                              message = "Mobile number must be 10 digits") String> mobileNumbers) {
+        log.debug("fetchBatchCardDetails method start");
+        return iCardsService.fetchCards(mobileNumbers)
+                .collectList()
+                .map(cardsDtos -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(cardsDtos))
+                .doFinally(signal -> log.debug("fetchBatchCardDetails method end"));
+    }
+
+    @Operation(
+            summary = "Update Card Details REST API",
+            description = "REST API to update card details based on a card number"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "417",
+                    description = "Expectation Failed"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PutMapping("/update")
+    public Mono<ResponseEntity<ResponseDto>> updateCardDetails(@Valid @RequestBody CardsDto cardsDto) {
+        return iCardsService.updateCard(cardsDto)
+                .map(isUpdated -> {
+                    if (isUpdated) {
+                        return ResponseEntity
+                                .status(HttpStatus.OK)
+                                .body(new ResponseDto(CardsConstants.STATUS_200, CardsConstants.MESSAGE_200));
+                    } else {
+                        return ResponseEntity
+                                .status(HttpStatus.EXPECTATION_FAILED)
+                                .body(new ResponseDto(CardsConstants.STATUS_417, CardsConstants.MESSAGE_417_UPDATE));
+                    }
+                });
+    }
+
+    @Operation(
+            summary = "Delete Card Details REST API",
+            description = "REST API to delete Card details based on a mobile number"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "417",
+                    description = "Expectation Failed"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @DeleteMapping("/delete")
+    public Mono<ResponseEntity<ResponseDto>> deleteCardDetails(@RequestParam
+                                                               @Pattern(regexp = "(^$|[0-9]{10})",
+                                                                       message = "Mobile number must be 10 digits")
+                                                               String mobileNumber) {
+        return iCardsService.deleteCard(mobileNumber)
+                .map(isDeleted -> {
+                    if (isDeleted) {
+                        return ResponseEntity
+                                .status(HttpStatus.OK)
+                                .body(new ResponseDto(CardsConstants.STATUS_200, CardsConstants.MESSAGE_200));
+                    } else {
+                        return ResponseEntity
+                                .status(HttpStatus.EXPECTATION_FAILED)
+                                .body(new ResponseDto(CardsConstants.STATUS_417, CardsConstants.MESSAGE_417_DELETE));
+                    }
+                });
+    }
+
+    @Operation(summary = "Get Build information REST API",
+            description = "Get Build information that is deployed into accounts microservice")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    @GetMapping("/build-info")
+    public ResponseEntity<String> getBuildInfo() {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(buildVersion);
+    }
+
+    @Operation(summary = "Get Java version REST API",
+            description = "Get Java version details that is installed into accounts microservice")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    @GetMapping("/java-version")
+    public ResponseEntity<String> getJavaVersion() {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(environment.getProperty("JAVA_HOME"));
+    }
+
+    @Operation(summary = "Get Contact Info REST API",
+            description = "Contact Info details that can be reached out in case of any issue")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    @GetMapping("/contact-info")
+    public ResponseEntity<CardsContactInfoDto> getContactInfo() {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(cardsContactInfoDto);
+    }
+
+}
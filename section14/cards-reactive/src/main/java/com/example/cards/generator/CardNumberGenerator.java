@@ -0,0 +1,66 @@
+package com.example.cards.generator;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out unique card numbers from blocks leased from the `card_number_seq` sequence.
+ * Every sequence value reserves BLOCK_SIZE consecutive numbers, so the database is only hit once per block
+ * and numbers never collide, also between replicas sharing the same database.
+ * Leasing never blocks the caller: when two requests exhaust the same block, both lease a new one and the
+ * loser's block is dropped, which only leaves a gap in the numbering.
+ */
+@Component
+public class CardNumberGenerator {
+
+    /**
+     * Must match the INCREMENT BY of the `card_number_seq` sequence.
+     */
+    static final int BLOCK_SIZE = 100;
+
+    private final DatabaseClient databaseClient;
+    private final AtomicReference<Block> block = new AtomicReference<>(Block.EXHAUSTED);
+
+    public CardNumberGenerator(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * @return the next unused card number
+     */
+    public Mono<Long> nextCardNumber() {
+        return Mono.defer(() -> {
+            Block current = block.get();
+            long number = current.next.getAndIncrement();
+            if (number < current.limit) {
+                return Mono.just(number);
+            }
+            return leaseBlock(current).then(nextCardNumber());
+        });
+    }
+
+    private Mono<Void> leaseBlock(Block exhausted) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR card_number_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .doOnNext(start -> block.compareAndSet(exhausted, new Block(start, start + BLOCK_SIZE)))
+                .then();
+    }
+
+    private static final class Block {
+
+        private static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(long start, long limit) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
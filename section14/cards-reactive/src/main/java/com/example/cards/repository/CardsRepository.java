@@ -0,0 +1,20 @@
+package com.example.cards.repository;
+
+import com.example.cards.entity.Cards;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+public interface CardsRepository extends ReactiveCrudRepository<Cards, Long> {
+
+    Mono<Cards> findByMobileNumber(String mobileNumber);
+
+    Mono<Cards> findByCardNumber(String cardNumber);
+
+    Flux<Cards> findAllByMobileNumberIn(Collection<String> mobileNumbers);
+
+}
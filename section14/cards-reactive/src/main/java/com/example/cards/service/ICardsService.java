@@ -0,0 +1,45 @@
+package com.example.cards.service;
+
+import com.example.cards.dto.CardsDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ICardsService {
+
+    /**
+     *
+     * @param mobileNumber - Mobile Number of the Customer
+     */
+    Mono<Void> createCard(String mobileNumber);
+
+    /**
+     *
+     * @param mobileNumber - Input mobile Number
+     *  @return Card Details based on a given mobileNumber
+     */
+    Mono<CardsDto> fetchCard(String mobileNumber);
+
+    /**
+     *
+     * @param mobileNumbers - Input mobile Numbers
+     * @return Card Details of every given mobileNumber that has a card
+     */
+    Flux<CardsDto> fetchCards(List<String> mobileNumbers);
+
+    /**
+     *
+     * @param cardsDto - CardsDto Object
+     * @return boolean indicating if the update of card details is successful or not
+     */
+    Mono<Boolean> updateCard(CardsDto cardsDto);
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @return boolean indicating if the delete of card details is successful or not
+     */
+    Mono<Boolean> deleteCard(String mobileNumber);
+
+}
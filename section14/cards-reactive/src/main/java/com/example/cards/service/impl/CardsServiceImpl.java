@@ -0,0 +1,108 @@
+package com.example.cards.service.impl;
+
+import com.example.cards.constants.CardsConstants;
+import com.example.cards.dto.CardsDto;
+import com.example.cards.entity.Cards;
+import com.example.cards.exception.CardAlreadyExistsException;
+import com.example.cards.exception.ResourceNotFoundException;
+import com.example.cards.generator.CardNumberGenerator;
+import com.example.cards.mapper.CardsMapper;
+import com.example.cards.repository.CardsRepository;
+import com.example.cards.service.ICardsService;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class CardsServiceImpl implements ICardsService {
+
+    private final CardsRepository cardsRepository;
+    private final CardNumberGenerator cardNumberGenerator;
+
+    /**
+     * @param mobileNumber - Mobile Number of the Customer
+     */
+    @Override
+    public Mono<Void> createCard(String mobileNumber) {
+        return cardNumberGenerator.nextCardNumber()
+                .map(cardNumber -> createNewCard(mobileNumber, cardNumber))
+                .flatMap(cardsRepository::save)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> new CardAlreadyExistsException("Card already registered with given mobileNumber "+mobileNumber))
+                .then();
+    }
+
+    /**
+     * @param mobileNumber - Mobile Number of the Customer
+     * @param cardNumber - Card Number leased from the generator
+     * @return the new card details
+     */
+    private Cards createNewCard(String mobileNumber, long cardNumber) {
+        Cards newCard = new Cards();
+        newCard.setCardNumber(Long.toString(cardNumber));
+        newCard.setMobileNumber(mobileNumber);
+        newCard.setCardType(CardsConstants.CREDIT_CARD);
+        newCard.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
+        newCard.setAmountUsed(0);
+        newCard.setAvailableAmount(CardsConstants.NEW_CARD_LIMIT);
+        return newCard;
+    }
+
+    /**
+     *
+     * @param mobileNumber - Input mobile Number
+     * @return Card Details based on a given mobileNumber
+     */
+    @Override
+    public Mono<CardsDto> fetchCard(String mobileNumber) {
+        return cardsRepository.findByMobileNumber(mobileNumber)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "mobileNumber", mobileNumber)))
+                .map(cards -> CardsMapper.mapToCardsDto(cards, new CardsDto()));
+    }
+
+    /**
+     *
+     * @param mobileNumbers - Input mobile Numbers
+     * @return Card Details of every given mobileNumber that has a card
+     */
+    @Override
+    public Flux<CardsDto> fetchCards(List<String> mobileNumbers) {
+        return cardsRepository.findAllByMobileNumberIn(mobileNumbers)
+                .map(cards -> CardsMapper.mapToCardsDto(cards, new CardsDto()));
+    }
+
+    /**
+     *
+     * @param cardsDto - CardsDto Object
+     * @return boolean indicating if the update of card details is successful or not
+     */
+    @Override
+    public Mono<Boolean> updateCard(CardsDto cardsDto) {
+        return cardsRepository.findByCardNumber(cardsDto.getCardNumber())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "CardNumber", cardsDto.getCardNumber())))
+                .filter(cards -> cardsDto.getVersion() == null || cardsDto.getVersion().equals(cards.getVersion()))
+                .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException("Card " + cardsDto.getCardNumber()
+                        + " was changed since version " + cardsDto.getVersion())))
+                .flatMap(cards -> cardsRepository.save(CardsMapper.mapToCards(cardsDto, cards)))
+                .thenReturn(true);
+    }
+
+    /**
+     * @param mobileNumber - Input MobileNumber
+     * @return boolean indicating if the delete of card details is successful or not
+     */
+    @Override
+    public Mono<Boolean> deleteCard(String mobileNumber) {
+        return cardsRepository.findByMobileNumber(mobileNumber)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "mobileNumber", mobileNumber)))
+                .flatMap(cards -> cardsRepository.deleteById(cards.getCardId()))
+                .thenReturn(true);
+    }
+
+}
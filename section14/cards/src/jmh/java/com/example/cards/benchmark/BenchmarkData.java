@@ -0,0 +1,21 @@
+package com.example.cards.benchmark;
+
+import com.example.cards.dto.CardsDto;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static CardsDto cardsDto() {
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber("3809865342");
+        cardsDto.setCardNumber("100000000042");
+        cardsDto.setCardType("Credit Card");
+        cardsDto.setTotalLimit(100000);
+        cardsDto.setAmountUsed(1000);
+        cardsDto.setAvailableAmount(99000);
+        cardsDto.setVersion(2L);
+        return cardsDto;
+    }
+}
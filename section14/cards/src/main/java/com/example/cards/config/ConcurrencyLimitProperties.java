@@ -0,0 +1,51 @@
+package com.example.cards.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cards.concurrency-limit")
+@Getter @Setter
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Whether requests beyond the current limit are rejected with 503.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Concurrent requests allowed before the first latency samples arrive.
+     */
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * Share of a new limit estimate applied per sample, between 0 and 1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * How much slower than the long term latency a request may be before the limit shrinks.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Number of samples the long term latency is averaged over.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Factor the limit is multiplied with when a request fails with a server error.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Value of the Retry-After header of rejected requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -8,6 +8,10 @@ public final class CardsConstants {
 
     public static final String  CREDIT_CARD = "Credit Card";
     public static final int  NEW_CARD_LIMIT = 1_000_00;
+    public static final int  MAX_BATCH_SIZE = 500;
+    public static final int  BULK_CHUNK_SIZE = 500;
+    // card_number_seq ends below, imported cards keep their numbers from here on
+    public static final long  FIRST_IMPORTED_CARD_NUMBER = 900_000_000_000L;
     public static final String  STATUS_201 = "201";
     public static final String  MESSAGE_201 = "Card created successfully";
     public static final String  STATUS_200 = "200";
@@ -1,5 +1,8 @@
 package com.example.cards.controller;
 
+import com.example.cards.bulk.BulkFormat;
+import com.example.cards.bulk.BulkProcessor;
+import com.example.cards.bulk.BulkResultDto;
 import com.example.cards.constants.CardsConstants;
 import com.example.cards.dto.CardsContactInfoDto;
 import com.example.cards.dto.CardsDto;
@@ -12,8 +15,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,6 +28,11 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 /**
  * @author Eazy Bytes
@@ -48,6 +58,8 @@ public class CardsController {
 
     private final CardsContactInfoDto cardsContactInfoDto;
 
+    private final BulkProcessor bulkProcessor;
+
     @Operation(
             summary = "Create Card REST API",
             description = "REST API to create new Card inside EazyBank"
@@ -107,6 +119,37 @@ public class CardsController {
                 .body(cardsDto);
     }
 
+    @Operation(
+            summary = "Fetch Card Details in batch REST API",
+            description = "REST API to fetch card details for a list of mobile numbers in a single call"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping("/fetchBatch")
+    public ResponseEntity<List<CardsDto>> fetchBatchCardDetails(@RequestBody
+                                                                @Size(max = CardsConstants.MAX_BATCH_SIZE,
+                                                                        message = "At most " + CardsConstants.MAX_BATCH_SIZE + " mobile numbers are allowed")
+                                                                List<@Pattern(regexp = "(^$|[0-9]{10})",
+                                                                        message = "Mobile number must be 10 digits") String> mobileNumbers) {
+        log.debug("fetchBatchCardDetails method start");
+        List<CardsDto> cardsDtos = iCardsService.fetchCards(mobileNumbers);
+        log.debug("fetchBatchCardDetails method end");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(cardsDtos);
+    }
+
     @Operation(
             summary = "Update Card Details REST API",
             description = "REST API to update card details based on a card number"
@@ -180,6 +223,63 @@ public class CardsController {
         }
     }
 
+    @Operation(
+            summary = "Bulk import Cards REST API",
+            description = "REST API to create cards from an NDJSON or CSV upload, the result of every record is streamed back as NDJSON"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = BulkResultDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping(path = "/bulk/import", consumes = {BulkFormat.NDJSON_VALUE, BulkFormat.CSV_VALUE},
+            produces = BulkFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCards(HttpServletRequest request) throws IOException {
+        BulkFormat format = BulkFormat.of(MediaType.parseMediaType(request.getContentType()));
+        InputStream input = request.getInputStream();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(BulkFormat.NDJSON.mediaType())
+                .body(output -> bulkProcessor.importRecords(input, format, CardsDto.class,
+                        CardsConstants.BULK_CHUNK_SIZE, iCardsService::importCards, output));
+    }
+
+    @Operation(
+            summary = "Bulk export Cards REST API",
+            description = "REST API to stream the details of all cards as NDJSON or CSV"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @GetMapping(path = "/bulk/export", produces = {BulkFormat.NDJSON_VALUE, BulkFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportCards(@RequestParam(defaultValue = "NDJSON") BulkFormat format) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(format.mediaType())
+                .body(output -> bulkProcessor.exportRecords(format, CardsDto.class, iCardsService::exportCards, output));
+    }
+
     @Operation(summary = "Get Build information REST API",
             description = "Get Build information that is deployed into accounts microservice")
     @ApiResponses({
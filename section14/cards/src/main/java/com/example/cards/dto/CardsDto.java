@@ -51,4 +51,9 @@ public class CardsDto {
     )
     private int availableAmount;
 
+    @Schema(
+            description = "Version of the card details, an update is rejected if the card was changed since", example = "0"
+    )
+    private Long version;
+
 }
@@ -12,7 +12,8 @@ import lombok.*;
 public class Cards extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_id_seq")
+	@SequenceGenerator(name = "card_id_seq", sequenceName = "card_id_seq", allocationSize = 50)
 	private Long cardId;
 
 	private String mobileNumber;
@@ -0,0 +1,99 @@
+package com.example.cards.limiter;
+
+import com.example.cards.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows the latency of the service, after the gradient algorithm of Netflix
+ * concurrency-limits. Every finished request compares its latency with the long term average: while they
+ * are close, the limit grows by about its square root, when requests get slower the limit shrinks by the
+ * same ratio. Requests beyond the limit are rejected at once, so a queue cannot build up in front of the service.
+ */
+public class GradientConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final Counter rejected;
+    private final double longRttAlpha;
+    private volatile double limit;
+    private double longRtt;
+
+    public GradientConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+                                      Tags tags) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+        this.longRttAlpha = 2.0 / (properties.getLongWindow() + 1);
+        Gauge.builder("concurrency.limit", this, limiter -> limiter.limit).tags(tags).register(meterRegistry);
+        Gauge.builder("concurrency.in.flight", inFlight, AtomicInteger::get).tags(tags).register(meterRegistry);
+        this.rejected = Counter.builder("concurrency.rejected").tags(tags).register(meterRegistry);
+    }
+
+    /**
+     * @return true if the request may proceed, it must then be completed with {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos - latency of the finished request
+     * @param failed - whether the request failed with an exception or timed out in a downstream call
+     */
+    public void release(long rttNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(rttNanos, inFlightBefore, failed);
+    }
+
+    /**
+     * Guarded by a ReentrantLock rather than synchronized, which would pin the carrier thread
+     * when the request runs on a virtual thread.
+     */
+    private void update(long rttNanos, int inFlightBefore, boolean failed) {
+        updateLock.lock();
+        try {
+            doUpdate(rttNanos, inFlightBefore, failed);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void doUpdate(long rttNanos, int inFlightBefore, boolean failed) {
+        if (failed) {
+            limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+        } else {
+            longRtt += (rttNanos - longRtt) * longRttAlpha;
+        }
+        // Let the long term latency recover quickly once a burst of slow requests is over
+        if (longRtt / rttNanos > 2) {
+            longRtt *= 0.95;
+        }
+        // Only grow while the limit is actually used
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRtt / rttNanos));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        double smoothed = limit * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), smoothed));
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.cards.repository;
 
 import com.example.cards.entity.Cards;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CardsRepository extends JpaRepository<Cards, Long> {
@@ -13,4 +24,42 @@ public interface CardsRepository extends JpaRepository<Cards, Long> {
 
     Optional<Cards> findByCardNumber(String cardNumber);
 
+    List<Cards> findAllByMobileNumberIn(Collection<String> mobileNumbers);
+
+    List<Cards> findAllByCardNumberIn(Collection<String> cardNumbers);
+
+    boolean existsByCardNumber(String cardNumber);
+
+    /**
+     * Updates the card in one statement. If a version is given, only a card still at that version is updated.
+     *
+     * @return number of updated cards, 0 if there is no such card or its version differs
+     */
+    @Transactional
+    @Modifying
+    @Query("update Cards c set c.mobileNumber = :mobileNumber, c.cardType = :cardType, c.totalLimit = :totalLimit,"
+            + " c.amountUsed = :amountUsed, c.availableAmount = :availableAmount, c.version = c.version + 1,"
+            + " c.updatedAt = :updatedAt, c.updatedBy = :updatedBy"
+            + " where c.cardNumber = :cardNumber and (:version is null or c.version = :version)")
+    int updateByCardNumber(@Param("cardNumber") String cardNumber, @Param("mobileNumber") String mobileNumber,
+                           @Param("cardType") String cardType, @Param("totalLimit") int totalLimit,
+                           @Param("amountUsed") int amountUsed, @Param("availableAmount") int availableAmount,
+                           @Param("version") Long version, @Param("updatedAt") LocalDateTime updatedAt,
+                           @Param("updatedBy") String updatedBy);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Cards c where c.mobileNumber = :mobileNumber")
+    int deleteByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    /**
+     * Reads the rows through a cursor in batches of the fetch size, the caller has to close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Cards c")
+    Stream<Cards> streamAll();
+
 }
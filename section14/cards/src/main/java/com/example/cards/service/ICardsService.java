@@ -1,7 +1,12 @@
 package com.example.cards.service;
 
+import com.example.cards.bulk.BulkRecord;
+import com.example.cards.bulk.BulkResultDto;
 import com.example.cards.dto.CardsDto;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface ICardsService {
 
     /**
@@ -17,6 +22,13 @@ public interface ICardsService {
      */
     CardsDto fetchCard(String mobileNumber);
 
+    /**
+     *
+     * @param mobileNumbers - Input mobile Numbers
+     * @return Card Details of every given mobileNumber that has a card
+     */
+    List<CardsDto> fetchCards(List<String> mobileNumbers);
+
     /**
      *
      * @param cardsDto - CardsDto Object
@@ -31,4 +43,17 @@ public interface ICardsService {
      */
     boolean deleteCard(String mobileNumber);
 
+    /**
+     *
+     * @param cards - Validated cards of one import chunk
+     * @return the result of every given card
+     */
+    List<BulkResultDto> importCards(List<BulkRecord<CardsDto>> cards);
+
+    /**
+     *
+     * @param consumer - Receives the details of every card
+     */
+    void exportCards(Consumer<CardsDto> consumer);
+
 }
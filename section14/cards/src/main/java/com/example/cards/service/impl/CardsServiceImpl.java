@@ -1,35 +1,60 @@
 package com.example.cards.service.impl;
 
+import com.example.cards.bulk.BulkRecord;
+import com.example.cards.bulk.BulkResultDto;
 import com.example.cards.constants.CardsConstants;
 import com.example.cards.dto.CardsDto;
 import com.example.cards.entity.Cards;
 import com.example.cards.exception.CardAlreadyExistsException;
 import com.example.cards.exception.ResourceNotFoundException;
+import com.example.cards.generator.CardNumberGenerator;
 import com.example.cards.mapper.CardsMapper;
 import com.example.cards.repository.CardsRepository;
 import com.example.cards.service.ICardsService;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-import java.util.Random;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class CardsServiceImpl implements ICardsService {
 
+    private static final String CARD_NUMBER_CONSTRAINT = "uk_cards_card_number";
+
     private final CardsRepository cardsRepository;
+    private final CardNumberGenerator cardNumberGenerator;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
 
     /**
      * @param mobileNumber - Mobile Number of the Customer
      */
     @Override
     public void createCard(String mobileNumber) {
-        Optional<Cards> optionalCards= cardsRepository.findByMobileNumber(mobileNumber);
-        if(optionalCards.isPresent()){
+        Cards newCard = createNewCard(mobileNumber);
+        try {
+            cardsRepository.saveAndFlush(newCard);
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, CARD_NUMBER_CONSTRAINT)) {
+                throw new IllegalStateException("Card number " + newCard.getCardNumber()
+                        + " is already taken, card_number_seq is behind the existing cards");
+            }
             throw new CardAlreadyExistsException("Card already registered with given mobileNumber "+mobileNumber);
         }
-        cardsRepository.save(createNewCard(mobileNumber));
     }
 
     /**
@@ -38,8 +63,7 @@ public class CardsServiceImpl implements ICardsService {
      */
     private Cards createNewCard(String mobileNumber) {
         Cards newCard = new Cards();
-        long randomCardNumber = 100000000000L + new Random().nextInt(900000000);
-        newCard.setCardNumber(Long.toString(randomCardNumber));
+        newCard.setCardNumber(Long.toString(cardNumberGenerator.nextCardNumber()));
         newCard.setMobileNumber(mobileNumber);
         newCard.setCardType(CardsConstants.CREDIT_CARD);
         newCard.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
@@ -61,6 +85,18 @@ public class CardsServiceImpl implements ICardsService {
         return CardsMapper.mapToCardsDto(cards, new CardsDto());
     }
 
+    /**
+     *
+     * @param mobileNumbers - Input mobile Numbers
+     * @return Card Details of every given mobileNumber that has a card
+     */
+    @Override
+    public List<CardsDto> fetchCards(List<String> mobileNumbers) {
+        return cardsRepository.findAllByMobileNumberIn(mobileNumbers).stream()
+                .map(cards -> CardsMapper.mapToCardsDto(cards, new CardsDto()))
+                .toList();
+    }
+
     /**
      *
      * @param cardsDto - CardsDto Object
@@ -68,10 +104,17 @@ public class CardsServiceImpl implements ICardsService {
      */
     @Override
     public boolean updateCard(CardsDto cardsDto) {
-        Cards cards = cardsRepository.findByCardNumber(cardsDto.getCardNumber()).orElseThrow(
-                () -> new ResourceNotFoundException("Card", "CardNumber", cardsDto.getCardNumber()));
-        CardsMapper.mapToCards(cardsDto, cards);
-        cardsRepository.save(cards);
+        int updated = cardsRepository.updateByCardNumber(cardsDto.getCardNumber(), cardsDto.getMobileNumber(),
+                cardsDto.getCardType(), cardsDto.getTotalLimit(), cardsDto.getAmountUsed(),
+                cardsDto.getAvailableAmount(), cardsDto.getVersion(), LocalDateTime.now(),
+                auditorAware.getCurrentAuditor().orElse(null));
+        if (updated == 0) {
+            if (cardsDto.getVersion() != null && cardsRepository.existsByCardNumber(cardsDto.getCardNumber())) {
+                throw new OptimisticLockingFailureException("Card " + cardsDto.getCardNumber()
+                        + " was changed since version " + cardsDto.getVersion());
+            }
+            throw new ResourceNotFoundException("Card", "CardNumber", cardsDto.getCardNumber());
+        }
         return  true;
     }
 
@@ -81,12 +124,76 @@ public class CardsServiceImpl implements ICardsService {
      */
     @Override
     public boolean deleteCard(String mobileNumber) {
-        Cards cards = cardsRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                () -> new ResourceNotFoundException("Card", "mobileNumber", mobileNumber)
-        );
-        cardsRepository.deleteById(cards.getCardId());
+        if (cardsRepository.deleteByMobileNumber(mobileNumber) == 0) {
+            throw new ResourceNotFoundException("Card", "mobileNumber", mobileNumber);
+        }
         return true;
     }
 
+    /**
+     * Checks the whole chunk against the existing cards with two queries and inserts the new ones in JDBC batches.
+     * Imported cards keep their numbers, so these have to lie above the range the card_number_seq hands out.
+     *
+     * @param cards - Validated cards of one import chunk
+     * @return the result of every given card
+     */
+    @Override
+    @Transactional
+    public List<BulkResultDto> importCards(List<BulkRecord<CardsDto>> cards) {
+        Set<String> takenMobileNumbers = cardsRepository.findAllByMobileNumberIn(
+                        cards.stream().map(card -> card.value().getMobileNumber()).toList()).stream()
+                .map(Cards::getMobileNumber)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> takenCardNumbers = cardsRepository.findAllByCardNumberIn(
+                        cards.stream().map(card -> card.value().getCardNumber()).toList()).stream()
+                .map(Cards::getCardNumber)
+                .collect(Collectors.toCollection(HashSet::new));
+        List<BulkResultDto> results = new ArrayList<>(cards.size());
+        List<Cards> newCards = new ArrayList<>(cards.size());
+        for (BulkRecord<CardsDto> card : cards) {
+            CardsDto cardsDto = card.value();
+            if (Long.parseLong(cardsDto.getCardNumber()) < CardsConstants.FIRST_IMPORTED_CARD_NUMBER) {
+                results.add(BulkResultDto.rejected(card.line(), "CardNumber " + cardsDto.getCardNumber()
+                        + " is reserved for new cards, imported cards start at "
+                        + CardsConstants.FIRST_IMPORTED_CARD_NUMBER));
+            } else if (takenMobileNumbers.contains(cardsDto.getMobileNumber())) {
+                results.add(BulkResultDto.rejected(card.line(),
+                        "Card already registered with given mobileNumber " + cardsDto.getMobileNumber()));
+            } else if (takenCardNumbers.contains(cardsDto.getCardNumber())) {
+                results.add(BulkResultDto.rejected(card.line(),
+                        "Card already registered with given cardNumber " + cardsDto.getCardNumber()));
+            } else {
+                takenMobileNumbers.add(cardsDto.getMobileNumber());
+                takenCardNumbers.add(cardsDto.getCardNumber());
+                newCards.add(CardsMapper.mapToCards(cardsDto, new Cards()));
+                results.add(BulkResultDto.created(card.line()));
+            }
+        }
+        cardsRepository.saveAll(newCards);
+        return results;
+    }
+
+    /**
+     * Every card is detached once it is passed on, so the persistence context does not grow with the table.
+     *
+     * @param consumer - Receives the details of every card
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCards(Consumer<CardsDto> consumer) {
+        try (Stream<Cards> cards = cardsRepository.streamAll()) {
+            cards.forEach(card -> {
+                consumer.accept(CardsMapper.mapToCardsDto(card, new CardsDto()));
+                entityManager.detach(card);
+            });
+        }
+    }
 
+    /**
+     * The constraint is named in the message of the database error, the exception does not carry it on its own.
+     */
+    private static boolean violates(DataIntegrityViolationException ex, String constraint) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraint);
+    }
 }
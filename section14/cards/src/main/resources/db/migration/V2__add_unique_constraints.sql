@@ -0,0 +1,3 @@
+ALTER TABLE `cards` ADD CONSTRAINT `uk_cards_mobile_number` UNIQUE (`mobile_number`);
+
+ALTER TABLE `cards` ADD CONSTRAINT `uk_cards_card_number` UNIQUE (`card_number`);
@@ -0,0 +1 @@
+ALTER TABLE `cards` ADD COLUMN `version` bigint NOT NULL DEFAULT 0;
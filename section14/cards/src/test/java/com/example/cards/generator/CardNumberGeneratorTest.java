@@ -0,0 +1,82 @@
+package com.example.cards.generator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CardNumberGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int NUMBERS_PER_THREAD = 1_000;
+    private static final long START = 100000000000L;
+
+    private final SingleConnectionDataSource database = new SingleConnectionDataSource(
+            "jdbc:h2:mem:card_number_seq;DB_CLOSE_DELAY=-1", "sa", "", true);
+    private final AtomicInteger sequenceCalls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(database).execute("DROP SEQUENCE IF EXISTS card_number_seq");
+        database.destroy();
+    }
+
+    @Test
+    void handsOutUniqueNumbersAndHitsTheSequenceOncePerBlock() throws Exception {
+        new JdbcTemplate(database).execute("CREATE SEQUENCE card_number_seq START WITH " + START
+                + " INCREMENT BY " + CardNumberGenerator.BLOCK_SIZE);
+        CardNumberGenerator generator = new CardNumberGenerator(new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                sequenceCalls.incrementAndGet();
+                return super.getConnection();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> numbers = new ArrayList<>(NUMBERS_PER_THREAD);
+                    for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                        numbers.add(generator.nextCardNumber());
+                    }
+                    return numbers;
+                }));
+            }
+            start.countDown();
+            Set<Long> cardNumbers = new HashSet<>();
+            for (Future<List<Long>> result : results) {
+                cardNumbers.addAll(result.get());
+            }
+
+            int total = THREADS * NUMBERS_PER_THREAD;
+            assertEquals(total, cardNumbers.size());
+            assertEquals(total / CardNumberGenerator.BLOCK_SIZE, sequenceCalls.get());
+            for (long number = START; number < START + total; number++) {
+                assertTrue(cardNumbers.contains(number), "missing number " + number);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.cards.service.impl;
+
+import com.example.cards.bulk.BulkRecord;
+import com.example.cards.bulk.BulkResultDto;
+import com.example.cards.constants.CardsConstants;
+import com.example.cards.dto.CardsDto;
+import com.example.cards.entity.Cards;
+import com.example.cards.exception.CardAlreadyExistsException;
+import com.example.cards.generator.CardNumberGenerator;
+import com.example.cards.repository.CardsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CardsServiceImplTest {
+
+    private static final String MOBILE_NUMBER = "1000000001";
+
+    private final CardsRepository cardsRepository = mock(CardsRepository.class);
+    private final CardNumberGenerator cardNumberGenerator = mock(CardNumberGenerator.class);
+    private final CardsServiceImpl cardsService = new CardsServiceImpl(cardsRepository, cardNumberGenerator,
+            mock(EntityManager.class), () -> Optional.of("test"));
+
+    @Test
+    void rejectsImportedCardNumbersOfTheGeneratedRange() {
+        List<BulkResultDto> results = cardsService.importCards(List.of(
+                new BulkRecord<>(2, cardsDto("1000000001", "100000000001")),
+                new BulkRecord<>(3, cardsDto("1000000002", String.valueOf(CardsConstants.FIRST_IMPORTED_CARD_NUMBER)))));
+
+        assertEquals(BulkResultDto.Status.REJECTED, results.get(0).status());
+        assertEquals(BulkResultDto.Status.CREATED, results.get(1).status());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Cards>> saved = ArgumentCaptor.forClass(List.class);
+        verify(cardsRepository).saveAll(saved.capture());
+        assertEquals(List.of(String.valueOf(CardsConstants.FIRST_IMPORTED_CARD_NUMBER)),
+                saved.getValue().stream().map(Cards::getCardNumber).toList());
+    }
+
+    @Test
+    void reportsTakenCardNumberAsServerError() {
+        when(cardNumberGenerator.nextCardNumber()).thenReturn(100000000000L);
+        when(cardsRepository.saveAndFlush(any())).thenThrow(violation("UK_CARDS_CARD_NUMBER_INDEX_3"));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> cardsService.createCard(MOBILE_NUMBER));
+        assertEquals("Card number 100000000000 is already taken, card_number_seq is behind the existing cards",
+                ex.getMessage());
+    }
+
+    @Test
+    void reportsTakenMobileNumberAsExistingCard() {
+        when(cardNumberGenerator.nextCardNumber()).thenReturn(100000000000L);
+        when(cardsRepository.saveAndFlush(any())).thenThrow(violation("UK_CARDS_MOBILE_NUMBER_INDEX_3"));
+
+        assertThrows(CardAlreadyExistsException.class, () -> cardsService.createCard(MOBILE_NUMBER));
+    }
+
+    private static DataIntegrityViolationException violation(String index) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException(
+                        "Unique index or primary key violation: \"PUBLIC." + index + " ON PUBLIC.CARDS\""));
+    }
+
+    private static CardsDto cardsDto(String mobileNumber, String cardNumber) {
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber(mobileNumber);
+        cardsDto.setCardNumber(cardNumber);
+        cardsDto.setCardType(CardsConstants.CREDIT_CARD);
+        cardsDto.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
+        cardsDto.setAvailableAmount(CardsConstants.NEW_CARD_LIMIT);
+        return cardsDto;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.benchmark;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of a benchmark run, bound from the system properties with the prefix benchmark.
+ */
+@Getter @Setter
+public class BenchmarkProperties {
+
+    /**
+     * Account creations per second, one step per rate in the given order.
+     */
+    private List<Integer> rates = List.of(25, 50, 100, 200, 400, 800);
+
+    /**
+     * How long each rate is held.
+     */
+    private Duration stepDuration = Duration.ofSeconds(30);
+
+    /**
+     * How long the first rate is run before the steps, so the consumers have joined and the JIT is warm.
+     */
+    private Duration warmup = Duration.ofSeconds(15);
+
+    /**
+     * How long after its last creation a step waits for the communication switch of its accounts.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Threads creating the accounts. A creation waiting for a thread counts from its scheduled time.
+     */
+    private int createThreads = 32;
+
+    /**
+     * Partitions of the embedded topics.
+     */
+    private int partitions = 8;
+
+    /**
+     * The p99 of creation to communication switch a step has to stay under.
+     */
+    private Duration sloP99 = Duration.ofSeconds(2);
+
+    /**
+     * Share of the target rate whose accounts have to be switched per second.
+     */
+    private double minThroughputRatio = 0.95;
+
+    /**
+     * The run fails if it saturates below this rate, 0 only reports.
+     */
+    private int expectedSustainableRate = 0;
+
+    /**
+     * Directory the histograms of the steps are written to.
+     */
+    private String outputDirectory = "target/benchmark";
+}
@@ -0,0 +1,91 @@
+package com.example.benchmark;
+
+import com.example.accounts.AccountsApplication;
+import com.example.accounts.service.IAccountService;
+import com.example.message.MessageApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs accounts and message in this JVM against an embedded Kafka broker and drives account creations at increasing
+ * rates. Each rate reports the latency from creating an account to its communicationSwitch being set, which covers
+ * the outbox relay, the send-communication topic, the notification pipeline, the communication-sent topic and the
+ * batch update, and the report names the rate at which this loop saturates.
+ * <p>
+ * Every setting of the two applications can be overridden with a system property, for example
+ * -Daccounts.outbox.poll-interval=100ms or -Dmessage.notification.lanes=16.
+ */
+@Slf4j
+public final class CommunicationBenchmark {
+
+    private static final String[] TOPICS = {"send-communication", "communication-sent", "send-communication-dlt"};
+
+    private CommunicationBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkProperties properties = Binder.get(new StandardEnvironment())
+                .bind("benchmark", BenchmarkProperties.class)
+                .orElseGet(BenchmarkProperties::new);
+
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaKraftBroker(1, properties.getPartitions(), TOPICS);
+        broker.afterPropertiesSet();
+        CommunicationProbe probe = new CommunicationProbe();
+        SaturationReport report;
+        try (ConfigurableApplicationContext message = start(MessageApplication.class, "benchmark-message", broker,
+                context -> { });
+             ConfigurableApplicationContext accounts = start(AccountsApplication.class, "benchmark-accounts", broker,
+                     context -> context.getBeanFactory().registerSingleton("communicationProbe", probe));
+             LoadDriver driver = new LoadDriver(accounts.getBean(IAccountService.class),
+                     new JdbcTemplate(accounts.getBean(DataSource.class)), probe, properties)) {
+
+            log.info("Warming up at {}/s for {}", properties.getRates().get(0), properties.getWarmup());
+            driver.run(properties.getRates().get(0), properties.getWarmup());
+
+            List<StepResult> steps = new ArrayList<>();
+            for (int rate : properties.getRates()) {
+                log.info("Creating {} accounts/s for {}", rate, properties.getStepDuration());
+                StepResult step = driver.run(rate, properties.getStepDuration());
+                steps.add(step);
+                if (step.saturated(properties)) {
+                    break;
+                }
+            }
+            report = new SaturationReport(steps, properties);
+        } finally {
+            broker.destroy();
+        }
+
+        report.print(System.out);
+        report.write(Path.of(properties.getOutputDirectory()));
+        if (report.sustainableRate() < properties.getExpectedSustainableRate()) {
+            throw new IllegalStateException("Sustained " + report.sustainableRate() + "/s, expected at least " +
+                    properties.getExpectedSustainableRate() + "/s");
+        }
+    }
+
+    /**
+     * Both applications ship an application.yml, so each one reads its own file from this module instead.
+     */
+    private static ConfigurableApplicationContext start(Class<?> application, String configName,
+                                                        EmbeddedKafkaBroker broker,
+                                                        ApplicationContextInitializer<ConfigurableApplicationContext> initializer) {
+        return new SpringApplicationBuilder(application)
+                .properties("spring.config.name=" + configName,
+                        "spring.cloud.stream.kafka.binder.brokers=" + broker.getBrokersAsString())
+                .initializers(initializer)
+                .run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.benchmark;
+
+import com.example.accounts.service.IAccountService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the account service of the accounts application and notes when the communication switch of an account
+ * was set, that is when updateCommunicationStatus returned and its update is committed. Registered without an order,
+ * so it runs after the transactional proxy was created and wraps that proxy instead of the plain service.
+ */
+class CommunicationProbe implements BeanPostProcessor {
+
+    private final Map<Long, Long> switchedAt = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof IAccountService)) {
+            return bean;
+        }
+        return Proxy.newProxyInstance(IAccountService.class.getClassLoader(), new Class<?>[]{IAccountService.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(bean, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                    if ("updateCommunicationStatus".equals(method.getName())) {
+                        switched(args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * @return System.nanoTime when the switch of the account was set first, null if it was not set yet
+     */
+    Long switchedAt(Long accountNumber) {
+        return switchedAt.get(accountNumber);
+    }
+
+    private void switched(Object accountNumbers) {
+        long now = System.nanoTime();
+        if (accountNumbers instanceof Collection<?> collection) {
+            collection.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(accountNumber -> switchedAt.putIfAbsent((Long) accountNumber, now));
+        } else if (accountNumbers instanceof Long accountNumber) {
+            switchedAt.putIfAbsent(accountNumber, now);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.benchmark;
+
+import com.example.accounts.dto.CustomerDto;
+import com.example.accounts.service.IAccountService;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Creates accounts open loop: every creation is scheduled at a fixed interval and handed to a worker at that time,
+ * whether or not the earlier ones have returned, so a slow system does not slow down the load it is measured with.
+ */
+@Slf4j
+class LoadDriver implements AutoCloseable {
+
+    private static final long FIRST_MOBILE_NUMBER = 1_000_000_000L;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final String ACCOUNT_NUMBERS_SQL = "select c.mobile_number, a.account_number from customer c " +
+            "join accounts a on a.customer_id = c.customer_id where c.mobile_number between ? and ?";
+
+    private final IAccountService accountService;
+    private final JdbcTemplate jdbcTemplate;
+    private final CommunicationProbe probe;
+    private final BenchmarkProperties properties;
+    private final ExecutorService creators;
+    private long nextMobileNumber = FIRST_MOBILE_NUMBER;
+
+    LoadDriver(IAccountService accountService, JdbcTemplate jdbcTemplate, CommunicationProbe probe,
+               BenchmarkProperties properties) {
+        this.accountService = accountService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.probe = probe;
+        this.properties = properties;
+        this.creators = Executors.newFixedThreadPool(properties.getCreateThreads());
+    }
+
+    /**
+     * Creates accounts at the given rate for the given duration and waits until they are switched
+     * or the drain timeout has passed.
+     */
+    StepResult run(int rate, Duration duration) throws InterruptedException {
+        int count = (int) (rate * duration.toMillis() / 1_000);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long firstMobileNumber = nextMobileNumber;
+        nextMobileNumber += count;
+
+        long[] scheduledAt = new long[count];
+        Histogram createLatency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch created = new CountDownLatch(count);
+        long startTimeStamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long scheduled = start + i * interval;
+            parkUntil(scheduled);
+            scheduledAt[i] = scheduled;
+            String mobileNumber = mobileNumber(firstMobileNumber + i);
+            creators.execute(() -> {
+                try {
+                    accountService.createAccount(customer(mobileNumber));
+                    createLatency.recordValue(micros(System.nanoTime() - scheduled));
+                } catch (RuntimeException ex) {
+                    failed.incrementAndGet();
+                    log.warn("Creating the account of {} failed", mobileNumber, ex);
+                } finally {
+                    created.countDown();
+                }
+            });
+        }
+        created.await();
+        long createdEnd = System.nanoTime();
+
+        Map<String, Long> accountNumbers = accountNumbers(firstMobileNumber, count);
+        awaitSwitched(accountNumbers);
+
+        Histogram switchLatency = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        switchLatency.setStartTimeStamp(startTimeStamp);
+        switchLatency.setEndTimeStamp(System.currentTimeMillis());
+        int unswitched = 0;
+        long lastSwitchedAt = start;
+        for (int i = 0; i < count; i++) {
+            Long accountNumber = accountNumbers.get(mobileNumber(firstMobileNumber + i));
+            if (accountNumber == null) {
+                continue;
+            }
+            Long switchedAt = probe.switchedAt(accountNumber);
+            if (switchedAt == null) {
+                unswitched++;
+            } else {
+                switchLatency.recordValue(micros(switchedAt - scheduledAt[i]));
+                lastSwitchedAt = Math.max(lastSwitchedAt, switchedAt);
+            }
+        }
+        return new StepResult(rate, count, failed.get(), unswitched,
+                perSecond(accountNumbers.size(), createdEnd - start),
+                perSecond(switchLatency.getTotalCount(), lastSwitchedAt - start),
+                createLatency, switchLatency);
+    }
+
+    @Override
+    public void close() {
+        creators.shutdownNow();
+    }
+
+    private Map<String, Long> accountNumbers(long firstMobileNumber, int count) {
+        Map<String, Long> accountNumbers = new HashMap<>(count * 2);
+        jdbcTemplate.query(ACCOUNT_NUMBERS_SQL,
+                (RowCallbackHandler) row -> accountNumbers.put(row.getString(1), row.getLong(2)),
+                mobileNumber(firstMobileNumber), mobileNumber(firstMobileNumber + count - 1));
+        return accountNumbers;
+    }
+
+    private void awaitSwitched(Map<String, Long> accountNumbers) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getDrainTimeout().toNanos();
+        while (System.nanoTime() < deadline
+                && !accountNumbers.values().stream().allMatch(accountNumber -> probe.switchedAt(accountNumber) != null)) {
+            Thread.sleep(50);
+        }
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Benchmark Customer");
+        customerDto.setEmail(mobileNumber + "@example.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+
+    private static String mobileNumber(long number) {
+        return String.valueOf(number);
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos > 0 ? count * 1e9 / nanos : 0;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.benchmark;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Summarizes the steps of a run: one line per rate and the highest rate the loop sustained before it saturated.
+ */
+class SaturationReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final List<StepResult> steps;
+    private final BenchmarkProperties properties;
+
+    SaturationReport(List<StepResult> steps, BenchmarkProperties properties) {
+        this.steps = steps;
+        this.properties = properties;
+    }
+
+    /**
+     * @return the highest rate before the first saturated step, 0 if already the first one saturated
+     */
+    int sustainableRate() {
+        int sustainable = 0;
+        for (StepResult step : steps) {
+            if (step.saturated(properties)) {
+                break;
+            }
+            sustainable = step.rate();
+        }
+        return sustainable;
+    }
+
+    Optional<StepResult> firstSaturated() {
+        return steps.stream().filter(step -> step.saturated(properties)).findFirst();
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.println("Creation to communicationSwitch=true, latencies in ms from the scheduled creation");
+        out.printf("%8s %9s %9s %9s %9s %9s %9s %9s %9s %7s %10s %10s%n", "rate/s", "created/s", "switched/s",
+                "p50", "p90", "p99", "p99.9", "max", "create p99", "failed", "unswitched", "saturated");
+        for (StepResult step : steps) {
+            Histogram latency = step.switchLatency();
+            out.printf("%8d %9.1f %9.1f", step.rate(), step.createRate(), step.switchRate());
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.1f", millis(latency.getValueAtPercentile(percentile)));
+            }
+            out.printf(" %9.1f %9.1f %7d %10d %10s%n", millis(latency.getMaxValue()),
+                    millis(step.createLatency().getValueAtPercentile(99)), step.failed(), step.unswitched(),
+                    step.saturated(properties) ? "yes" : "no");
+        }
+        out.println();
+        out.printf("Saturation criteria: switched/s below %.0f%% of the rate, p99 above %d ms, failed or unswitched accounts%n",
+                properties.getMinThroughputRatio() * 100, properties.getSloP99().toMillis());
+        firstSaturated().ifPresentOrElse(
+                step -> out.printf("Saturated at %d/s, highest sustained rate %d/s%n", step.rate(), sustainableRate()),
+                () -> out.printf("Not saturated up to %d/s, raise benchmark.rates%n", sustainableRate()));
+    }
+
+    /**
+     * Writes the latencies of all steps as one HdrHistogram log, tagged with their rate, and a percentile
+     * distribution per step that the HdrHistogram plotter reads.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream log = new PrintStream(Files.newOutputStream(directory.resolve("switch-latency.hlog")))) {
+            HistogramLogWriter writer = new HistogramLogWriter(log);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (StepResult step : steps) {
+                Histogram latency = step.switchLatency();
+                latency.setTag("rate-" + step.rate());
+                writer.outputIntervalHistogram(latency);
+            }
+        }
+        for (StepResult step : steps) {
+            Path file = directory.resolve("switch-latency-" + step.rate() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                step.switchLatency().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
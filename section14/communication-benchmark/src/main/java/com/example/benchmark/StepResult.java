@@ -0,0 +1,30 @@
+package com.example.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one rate. Both histograms are in microseconds and count from the scheduled time of a creation,
+ * so a creation delayed by a backlog in the harness is not left out.
+ *
+ * @param rate           - Target creations per second
+ * @param scheduled      - Creations scheduled during the step
+ * @param failed         - Creations that threw
+ * @param unswitched     - Created accounts whose switch was not set within the drain timeout
+ * @param createRate     - Creations completed per second
+ * @param switchRate     - Accounts switched per second
+ * @param createLatency  - Scheduled time to createAccount returning
+ * @param switchLatency  - Scheduled time to communicationSwitch=true
+ */
+record StepResult(int rate, int scheduled, int failed, int unswitched, double createRate, double switchRate,
+                  Histogram createLatency, Histogram switchLatency) {
+
+    /**
+     * A step is saturated if it lost accounts, could not keep up with its rate or missed the latency objective.
+     */
+    boolean saturated(BenchmarkProperties properties) {
+        return failed > 0
+                || unswitched > 0
+                || switchRate < rate * properties.getMinThroughputRatio()
+                || switchLatency.getValueAtPercentile(99) > properties.getSloP99().toNanos() / 1_000;
+    }
+}
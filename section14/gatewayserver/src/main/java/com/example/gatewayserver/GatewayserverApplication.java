@@ -1,15 +1,26 @@
 package com.example.gatewayserver;
 
+import com.example.gatewayserver.config.ConcurrencyLimitProperties;
+import com.example.gatewayserver.config.JwtProperties;
+import com.example.gatewayserver.config.LatencyProperties;
+import com.example.gatewayserver.config.RateLimiterProperties;
+import com.example.gatewayserver.config.RequestCoalescingProperties;
+import com.example.gatewayserver.config.ResponseCacheProperties;
+import com.example.gatewayserver.filters.ConcurrencyLimitGatewayFilterFactory;
+import com.example.gatewayserver.filters.RequestCoalescingGatewayFilterFactory;
+import com.example.gatewayserver.filters.ResponseCacheGatewayFilterFactory;
+import com.example.gatewayserver.ratelimiter.HybridRateLimiter;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
 import org.springframework.cloud.client.circuitbreaker.Customizer;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
-import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
@@ -17,10 +28,12 @@ import org.springframework.http.HttpMethod;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableConfigurationProperties(value = {ResponseCacheProperties.class, RequestCoalescingProperties.class,
+        RateLimiterProperties.class, JwtProperties.class, LatencyProperties.class,
+        ConcurrencyLimitProperties.class})
 public class GatewayserverApplication {
 
     public static void main(String[] args) {
@@ -28,34 +41,71 @@ public class GatewayserverApplication {
     }
 
     @Bean
-    public RouteLocator eazyBankRouteConfig(RouteLocatorBuilder routeLocatorBuilder) {
+    public RouteLocator eazyBankRouteConfig(RouteLocatorBuilder routeLocatorBuilder,
+                                           ResponseCacheGatewayFilterFactory responseCacheFilterFactory,
+                                           ResponseCacheProperties responseCacheProperties,
+                                           RequestCoalescingGatewayFilterFactory requestCoalescingFilterFactory,
+                                           RequestCoalescingProperties requestCoalescingProperties,
+                                           HybridRateLimiter hybridRateLimiter,
+                                           ConcurrencyLimitGatewayFilterFactory concurrencyLimitFilterFactory) {
         return routeLocatorBuilder.routes()
-                .route(p -> p
+                .route("accounts", p -> p
                         .path("/eazybank/accounts/**")
-                        .filters(f -> f.rewritePath("/eazybank/accounts/(?<segment>.*)", "/${segment}")
-                                .addResponseHeader("X-Response-Time", LocalDateTime.now().toString())
+                        .filters(f -> f.filter(responseCache(responseCacheFilterFactory, responseCacheProperties, "accounts"))
+                                .filter(requestCoalescing(requestCoalescingFilterFactory, requestCoalescingProperties,
+                                        "accounts", "/eazybank/accounts/api/fetchCustomerDetails"))
+                                .filter(concurrencyLimitFilterFactory.apply(config -> config.setName("accounts")))
+                                .rewritePath("/eazybank/accounts/(?<segment>.*)", "/${segment}")
                                 .circuitBreaker(config -> config.setName("accountsCircuitBreaker")
                                         .setFallbackUri("forward:/contactSupport")))
                         .uri("http://accounts:8080"))
-                .route(p -> p
+                .route("loans", p -> p
                         .path("/eazybank/loans/**")
-                        .filters(f -> f.rewritePath("/eazybank/loans/(?<segment>.*)", "/${segment}")
-                                .addResponseHeader("X-Response-Time", LocalDateTime.now().toString())
+                        .filters(f -> f.filter(responseCache(responseCacheFilterFactory, responseCacheProperties, "loans"))
+                                .filter(concurrencyLimitFilterFactory.apply(config -> config.setName("loans")))
+                                .rewritePath("/eazybank/loans/(?<segment>.*)", "/${segment}")
                                 .retry(retryConfig -> retryConfig.setRetries(3)
                                         .setMethods(HttpMethod.GET)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000),
                                                 2,true )))
                         .uri("http://loans:8090"))
-                .route(p -> p
+                .route("cards", p -> p
                         .path("/eazybank/cards/**")
-                        .filters(f -> f.rewritePath("/eazybank/cards/(?<segment>.*)", "/${segment}")
-                                .addResponseHeader("X-Response-Time", LocalDateTime.now().toString())
-                                .requestRateLimiter(config -> config
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver())))
+                        .filters(f -> f.requestRateLimiter(config -> config
+                                        .setRateLimiter(hybridRateLimiter)
+                                        .setKeyResolver(userKeyResolver()))
+                                .filter(responseCache(responseCacheFilterFactory, responseCacheProperties, "cards"))
+                                .filter(concurrencyLimitFilterFactory.apply(config -> config.setName("cards")))
+                                .rewritePath("/eazybank/cards/(?<segment>.*)", "/${segment}"))
                         .uri("http://cards:9000")).build();
     }
 
+    /**
+     * Caches the read-heavy fetch endpoint and the static info endpoints of a route.
+     */
+    private GatewayFilter responseCache(ResponseCacheGatewayFilterFactory responseCacheFilterFactory,
+                                        ResponseCacheProperties responseCacheProperties, String route) {
+        return responseCacheFilterFactory.apply(config -> config
+                .cache("/eazybank/" + route + "/api/fetch",
+                        responseCacheProperties.getFetchTimeToLive().getOrDefault(route, Duration.ZERO))
+                .cache("/eazybank/" + route + "/api/{endpoint:contact-info|build-info|java-version}",
+                        responseCacheProperties.getStaticTimeToLive()));
+    }
+
+    /**
+     * Shares one backend call between concurrent identical GET requests of a route.
+     */
+    private GatewayFilter requestCoalescing(RequestCoalescingGatewayFilterFactory requestCoalescingFilterFactory,
+                                            RequestCoalescingProperties requestCoalescingProperties,
+                                            String route, String pathPattern) {
+        Integer maxWaiters = requestCoalescingProperties.getMaxWaiters().get(route);
+        return requestCoalescingFilterFactory.apply(config -> {
+            if (maxWaiters != null) {
+                config.coalesce(pathPattern).setMaxWaiters(maxWaiters);
+            }
+        });
+    }
+
     @Bean
     public Customizer<ReactiveResilience4JCircuitBreakerFactory> defaultCustomizer() {
         return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
@@ -63,11 +113,6 @@ public class GatewayserverApplication {
                 .timeLimiterConfig(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(4)).build()).build());
     }
 
-    @Bean
-    public RedisRateLimiter redisRateLimiter() {
-        return new RedisRateLimiter(1, 1, 1);
-    }
-
     @Bean
     KeyResolver userKeyResolver() {
         return exchange -> Mono.justOrEmpty(exchange.getRequest().getHeaders().getFirst("user"))
@@ -0,0 +1,78 @@
+package com.example.gatewayserver.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Verifies a token once and reuses the result until the token expires, so a client sending the same bearer
+ * token with many requests pays for the signature check only on the first one. Tokens are keyed by their
+ * SHA-256 hash, the raw token is never kept. Tokens without an expiry are verified every time.
+ */
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+    private final Cache<String, Jwt> verifiedTokens;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, JwtProperties jwtProperties,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getCacheMaximumSize())
+                .expireAfter(Expiry.creating((String hash, Jwt jwt) -> timeToExpiry(jwt)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "gatewayJwts");
+        this.validTokens = Timer.builder("gateway.jwt.verify").tag("result", "valid").register(meterRegistry);
+        this.invalidTokens = Timer.builder("gateway.jwt.verify").tag("result", "invalid").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        String hash = hash(token);
+        Jwt cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null && timeToExpiry(cached).isPositive()) {
+            return Mono.just(cached);
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return delegate.decode(token)
+                    .doOnNext(jwt -> {
+                        validTokens.record(Duration.ofNanos(System.nanoTime() - start));
+                        if (jwt.getExpiresAt() != null) {
+                            verifiedTokens.put(hash, jwt);
+                        }
+                    })
+                    .doOnError(ex -> invalidTokens.record(Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+
+    private static Duration timeToExpiry(Jwt jwt) {
+        Duration timeToExpiry = Duration.between(Instant.now(), jwt.getExpiresAt());
+        return timeToExpiry.isNegative() ? Duration.ZERO : timeToExpiry;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
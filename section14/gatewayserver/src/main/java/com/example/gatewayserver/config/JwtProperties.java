@@ -0,0 +1,27 @@
+package com.example.gatewayserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.jwt")
+@Getter @Setter
+public class JwtProperties {
+
+    /**
+     * Number of verified tokens kept until they expire.
+     */
+    private long cacheMaximumSize = 10000;
+
+    /**
+     * How often the signing keys are fetched from the jwk-set-uri in the background.
+     */
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Minimum time between two fetches triggered by a token signed with an unknown key.
+     */
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+}
@@ -1,27 +1,38 @@
 package com.example.gatewayserver.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class KeycloakRoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    /**
+     * Tokens of the same client carry the same roles, so the authorities are built once per distinct role list.
+     */
+    private final Cache<List<String>, List<GrantedAuthority>> authorities = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .build();
+
     @Override
     public Collection<GrantedAuthority> convert(Jwt source) {
         Map<String, Object> realmAccess = (Map<String, Object>) source.getClaims().get("realm_access");
         if (realmAccess == null || realmAccess.isEmpty()) {
-            return new ArrayList<>();
+            return List.of();
+        }
+        List<String> roles = (List<String>) realmAccess.get("roles");
+        if (roles == null) {
+            return List.of();
         }
-        Collection<GrantedAuthority> returnValue = ((List<String>) realmAccess.get("roles"))
-                .stream().map(roleName -> "ROLE_" + roleName)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-        return returnValue;
+        return authorities.get(roles, roleNames -> roleNames.stream()
+                .map(roleName -> "ROLE_" + roleName)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList());
     }
 }
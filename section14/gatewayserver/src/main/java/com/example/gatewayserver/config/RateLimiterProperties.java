@@ -0,0 +1,61 @@
+package com.example.gatewayserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.rate-limiter")
+@Getter @Setter
+public class RateLimiterProperties {
+
+    public enum Mode {
+        /**
+         * Local buckets, reconciled with Redis in the background.
+         */
+        HYBRID,
+        /**
+         * Local buckets only, every gateway replica enforces the limit on its own.
+         */
+        LOCAL
+    }
+
+    private Mode mode = Mode.HYBRID;
+
+    /**
+     * Tokens added to a bucket per second.
+     */
+    private int replenishRate = 1;
+
+    /**
+     * Maximum number of tokens a bucket holds.
+     */
+    private int burstCapacity = 1;
+
+    /**
+     * Tokens taken by a single request.
+     */
+    private int requestedTokens = 1;
+
+    /**
+     * How often the locally consumed tokens are added to the counters in Redis.
+     */
+    private Duration syncInterval = Duration.ofMillis(250);
+
+    /**
+     * Length of the Redis counting window. All replicas together may use replenishRate * window + burstCapacity
+     * tokens of a key per window.
+     */
+    private Duration window = Duration.ofSeconds(1);
+
+    /**
+     * Deadline for one reconciliation round. A late or failed round leaves the replica on its local buckets.
+     */
+    private Duration redisTimeout = Duration.ofMillis(200);
+
+    /**
+     * Buckets not used for this long are dropped.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+}
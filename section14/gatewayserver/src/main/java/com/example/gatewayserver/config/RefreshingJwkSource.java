@@ -0,0 +1,106 @@
+package com.example.gatewayserver.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Keeps the signing keys of the jwk-set-uri in memory and refreshes them in the background, so verifying a
+ * token never waits on Keycloak. A token signed with a key that is not known yet, after a key rotation,
+ * triggers one immediate refresh that all concurrent requests share.
+ */
+@Slf4j
+public class RefreshingJwkSource implements Function<SignedJWT, Flux<JWK>> {
+
+    private final WebClient webClient;
+    private final String jwkSetUri;
+    private final JwtProperties jwtProperties;
+    private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>(new JWKSet());
+    private final AtomicReference<Mono<JWKSet>> pendingRefresh = new AtomicReference<>();
+    private volatile long lastRefresh = System.nanoTime() - Long.MAX_VALUE / 2;
+    private Disposable scheduledRefresh;
+
+    public RefreshingJwkSource(WebClient webClient, String jwkSetUri, JwtProperties jwtProperties) {
+        this.webClient = webClient;
+        this.jwkSetUri = jwkSetUri;
+        this.jwtProperties = jwtProperties;
+    }
+
+    public void start() {
+        scheduledRefresh = Flux.interval(Duration.ZERO, jwtProperties.getJwksRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(ex -> {
+                            log.warn("Could not refresh the signing keys from {}: {}", jwkSetUri, ex.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public void stop() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.dispose();
+        }
+    }
+
+    @Override
+    public Flux<JWK> apply(SignedJWT jwt) {
+        JWKSelector selector = new JWKSelector(JWKMatcher.forJWSHeader(jwt.getHeader()));
+        List<JWK> keys = selector.select(jwkSet.get());
+        if (!keys.isEmpty()) {
+            return Flux.fromIterable(keys);
+        }
+        if (System.nanoTime() - lastRefresh < jwtProperties.getJwksMinRefreshInterval().toNanos()) {
+            return Flux.empty();
+        }
+        log.debug("No signing key matches key id {}, refreshing the keys", jwt.getHeader().getKeyID());
+        return refresh().flatMapIterable(selector::select);
+    }
+
+    private Mono<JWKSet> refresh() {
+        return Mono.defer(() -> {
+            Mono<JWKSet> pending = pendingRefresh.get();
+            if (pending == null) {
+                Mono<JWKSet> created = fetch()
+                        .doFinally(signal -> pendingRefresh.set(null))
+                        .cache();
+                pending = pendingRefresh.compareAndExchange(null, created);
+                if (pending == null) {
+                    pending = created;
+                }
+            }
+            return pending;
+        });
+    }
+
+    private Mono<JWKSet> fetch() {
+        return webClient.get()
+                .uri(jwkSetUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .<JWKSet>handle((body, sink) -> {
+                    try {
+                        sink.next(JWKSet.parse(body));
+                    } catch (ParseException ex) {
+                        sink.error(new IllegalStateException("Invalid JWK set from " + jwkSetUri, ex));
+                    }
+                })
+                .doOnNext(keys -> {
+                    jwkSet.set(keys);
+                    lastRefresh = System.nanoTime();
+                });
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.gatewayserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.request-coalescing")
+@Getter @Setter
+public class RequestCoalescingProperties {
+
+    /**
+     * Number of identical requests that may wait on one backend call, by route name.
+     * Routes without an entry are not coalesced.
+     */
+    private Map<String, Integer> maxWaiters = new HashMap<>();
+}
@@ -0,0 +1,30 @@
+package com.example.gatewayserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.response-cache")
+@Getter @Setter
+public class ResponseCacheProperties {
+
+    /**
+     * Upper bound for the bodies kept in memory, shared by all routes.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+    /**
+     * How long the contact-info, build-info and java-version responses are reused.
+     */
+    private Duration staticTimeToLive = Duration.ofMinutes(10);
+
+    /**
+     * How long the /api/fetch response of a route is reused, by route name. Routes without an entry are not cached.
+     */
+    private Map<String, Duration> fetchTimeToLive = new HashMap<>();
+}
@@ -1,5 +1,7 @@
 package com.example.gatewayserver.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
@@ -8,9 +10,12 @@ import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.ReactiveJwtAuthenticationConverterAdapter;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Configuration
@@ -29,6 +34,20 @@ public class SecurityConfig {
         return serverHttpSecurity.build();
     }
 
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public RefreshingJwkSource jwkSource(OAuth2ResourceServerProperties resourceServerProperties,
+                                         WebClient.Builder webClientBuilder, JwtProperties jwtProperties) {
+        return new RefreshingJwkSource(webClientBuilder.build(),
+                resourceServerProperties.getJwt().getJwkSetUri(), jwtProperties);
+    }
+
+    @Bean
+    public ReactiveJwtDecoder jwtDecoder(RefreshingJwkSource jwkSource, JwtProperties jwtProperties,
+                                         MeterRegistry meterRegistry) {
+        return new CachingReactiveJwtDecoder(NimbusReactiveJwtDecoder.withJwkSource(jwkSource).build(),
+                jwtProperties, meterRegistry);
+    }
+
     private Converter<Jwt, Mono<AbstractAuthenticationToken>> grantedAuthoritiesExtractor() {
         JwtAuthenticationConverter jwtAuthenticationConverter =
                 new JwtAuthenticationConverter();
@@ -0,0 +1,37 @@
+package com.example.gatewayserver.filters;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Status, headers and body of a backend response, kept to be written again to other clients.
+ */
+record CapturedResponse(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+
+    private static final Set<String> NOT_REPLAYED_HEADERS = Set.of(
+            FilterUtility.CORRELATION_ID.toLowerCase(Locale.ROOT),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+            HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+            HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT));
+
+    static CapturedResponse of(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+        HttpHeaders replayable = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!NOT_REPLAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                replayable.addAll(name, values);
+            }
+        });
+        return new CapturedResponse(statusCode, HttpHeaders.readOnlyHttpHeaders(replayable), body);
+    }
+
+    Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(statusCode);
+        response.getHeaders().addAll(headers);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.gatewayserver.filters;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Hands a copy of the response to a consumer while it is written to the client.
+ * Only responses accepted by the predicate are buffered, all others are streamed as before.
+ */
+class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final Predicate<ServerHttpResponse> capturable;
+    private final Consumer<CapturedResponse> onCapture;
+
+    CapturingResponseDecorator(ServerHttpResponse delegate, Predicate<ServerHttpResponse> capturable,
+                               Consumer<CapturedResponse> onCapture) {
+        super(delegate);
+        this.capturable = capturable;
+        this.onCapture = onCapture;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (getStatusCode() == null || !capturable.test(getDelegate())) {
+            return super.writeWith(body);
+        }
+        return DataBufferUtils.join(body).flatMap(joined -> {
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+            onCapture.accept(CapturedResponse.of(getStatusCode(), getHeaders(), bytes));
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.gatewayserver.filters;
+
+import com.example.gatewayserver.config.ConcurrencyLimitProperties;
+import com.example.gatewayserver.limiter.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Applies an adaptive concurrency limit to a route. Requests beyond the limit get 503 with Retry-After
+ * from the gateway right away, instead of piling up in front of an overloaded backend.
+ * The limiter of a route is kept across route refreshes, so its learned limit and its gauges stay in use.
+ */
+@Component
+public class ConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, GradientConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitGatewayFilterFactory(ConcurrencyLimitProperties concurrencyLimitProperties,
+                                                MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        GradientConcurrencyLimiter limiter = limiters.computeIfAbsent(config.getName(),
+                name -> new GradientConcurrencyLimiter(concurrencyLimitProperties, meterRegistry, Tags.of("route", name)));
+        String retryAfter = String.valueOf(Math.max(1, concurrencyLimitProperties.getRetryAfter().toSeconds()));
+        return (exchange, chain) -> {
+            ServerHttpResponse response = exchange.getResponse();
+            if (!limiter.tryAcquire()) {
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+                return response.setComplete();
+            }
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> {
+                        HttpStatusCode statusCode = response.getStatusCode();
+                        boolean failed = signal == SignalType.ON_ERROR || (statusCode != null
+                                && (statusCode.value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                                || statusCode.value() == HttpStatus.GATEWAY_TIMEOUT.value()));
+                        limiter.release(System.nanoTime() - start, failed);
+                    });
+        };
+    }
+
+    @Getter @Setter
+    public static class Config {
+
+        /**
+         * Route name the limit metrics are tagged with.
+         */
+        private String name;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.gatewayserver.filters;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Makes sure every request carries an eazybank-correlation-id to the backends and back to the client.
+ * The header is read once and written to the response before it is committed. A missing id is taken from
+ * the OpenTelemetry trace of the request, so logs and traces share it, or generated without SecureRandom.
+ * Runs ahead of the route filters, so also responses served by the gateway itself carry the id.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CorrelationIdFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private final FilterUtility filterUtility;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String correlationId = filterUtility.getCorrelationId(exchange.getRequest().getHeaders());
+        ServerWebExchange tracedExchange;
+        if (correlationId != null) {
+            tracedExchange = exchange;
+            log.debug("eazyBank-correlation-id found in CorrelationIdFilter : {}", correlationId);
+        } else {
+            correlationId = generateCorrelationId();
+            tracedExchange = filterUtility.setCorrelationId(exchange, correlationId);
+            log.debug("eazyBank-correlation-id generated in CorrelationIdFilter : {}", correlationId);
+        }
+
+        ServerHttpResponse response = tracedExchange.getResponse();
+        String responseCorrelationId = correlationId;
+        response.beforeCommit(() -> {
+            response.getHeaders().set(FilterUtility.CORRELATION_ID, responseCorrelationId);
+            return Mono.empty();
+        });
+        return chain.filter(tracedExchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private String generateCorrelationId() {
+        SpanContext spanContext = Span.current().getSpanContext();
+        if (spanContext.isValid()) {
+            return spanContext.getTraceId();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xC000000000000000L)) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+}
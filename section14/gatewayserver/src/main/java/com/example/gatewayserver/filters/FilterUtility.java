@@ -4,7 +4,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
 import org.springframework.http.HttpHeaders;
-import java.util.List;
 
 @Component
 public class FilterUtility {
@@ -12,12 +11,7 @@ public class FilterUtility {
     public static final String CORRELATION_ID = "eazybank-correlation-id";
 
     public String getCorrelationId(HttpHeaders requestHeaders) {
-        if (requestHeaders.get(CORRELATION_ID) != null) {
-            List<String> requestHeaderList = requestHeaders.get(CORRELATION_ID);
-            return requestHeaderList.stream().findFirst().get();
-        } else {
-            return null;
-        }
+        return requestHeaders.getFirst(CORRELATION_ID);
     }
 
     public ServerWebExchange setRequestHeader(ServerWebExchange exchange, String name, String value) {
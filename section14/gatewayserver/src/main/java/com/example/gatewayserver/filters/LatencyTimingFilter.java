@@ -0,0 +1,80 @@
+package com.example.gatewayserver.filters;
+
+import com.example.gatewayserver.config.LatencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Records the latency of every request per route, in total and spent in the backend, as Micrometer timers
+ * with SLO buckets, and reports both to the client in a Server-Timing header.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatencyTimingFilter implements GlobalFilter, Ordered {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final String UNKNOWN_ROUTE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final LatencyProperties latencyProperties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            StringBuilder serverTiming = new StringBuilder();
+            Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTRIBUTE);
+            if (upstreamNanos != null) {
+                serverTiming.append("upstream;dur=").append(millis(upstreamNanos)).append(", ");
+            }
+            serverTiming.append("total;dur=").append(millis(System.nanoTime() - start));
+            response.getHeaders().set(SERVER_TIMING, serverTiming.toString());
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    String route = routeId(exchange);
+                    timer("gateway.requests.latency", route).record(Duration.ofNanos(System.nanoTime() - start));
+                    Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTRIBUTE);
+                    if (upstreamNanos != null) {
+                        timer("gateway.upstream.latency", route).record(Duration.ofNanos(upstreamNanos));
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return CorrelationIdFilter.ORDER + 1;
+    }
+
+    private Timer timer(String name, String route) {
+        return Timer.builder(name)
+                .tag("route", route)
+                .serviceLevelObjectives(latencyProperties.getSlo().toArray(Duration[]::new))
+                .register(meterRegistry);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : UNKNOWN_ROUTE;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.gatewayserver.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces concurrent identical GET requests into a single backend call. The first request is forwarded,
+ * the ones arriving while it is in flight wait for its response and get a copy of it, so nothing is served
+ * that is older than the request itself. Once maxWaiters requests wait on one call, further ones are forwarded
+ * on their own. If the forwarded call produces no response to share, its waiters are forwarded as well.
+ */
+@Slf4j
+@Component
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final ConcurrentMap<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private final Counter forwardedRequests;
+    private final Counter coalescedRequests;
+    private final Counter overflowRequests;
+
+    public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.forwardedRequests = meterRegistry.counter("gateway.requests.coalescing", "result", "forwarded");
+        this.coalescedRequests = meterRegistry.counter("gateway.requests.coalescing", "result", "coalesced");
+        this.overflowRequests = meterRegistry.counter("gateway.requests.coalescing", "result", "overflow");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!HttpMethod.GET.equals(request.getMethod()) || !config.matches(request)) {
+                return chain.filter(exchange);
+            }
+            return exchange.getPrincipal()
+                    .map(Principal::getName)
+                    .defaultIfEmpty(ANONYMOUS)
+                    .flatMap(principal -> {
+                        String key = requestKey(request, principal);
+                        InFlightRequest inFlightRequest = new InFlightRequest();
+                        InFlightRequest existing = inFlightRequests.putIfAbsent(key, inFlightRequest);
+                        if (existing == null) {
+                            return forward(exchange, chain, key, inFlightRequest);
+                        }
+                        if (existing.waiters.incrementAndGet() > config.getMaxWaiters()) {
+                            overflowRequests.increment();
+                            return chain.filter(exchange);
+                        }
+                        return existing.response.asMono()
+                                .flatMap(captured -> {
+                                    coalescedRequests.increment();
+                                    return captured.writeTo(exchange.getResponse());
+                                })
+                                .switchIfEmpty(Mono.defer(() -> chain.filter(exchange)));
+                    });
+        };
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                               InFlightRequest inFlightRequest) {
+        forwardedRequests.increment();
+        return chain.filter(exchange.mutate()
+                        .response(new CapturingResponseDecorator(exchange.getResponse(),
+                                delegate -> true,
+                                captured -> inFlightRequest.response.tryEmitValue(captured)))
+                        .build())
+                .doFinally(signal -> {
+                    inFlightRequests.remove(key, inFlightRequest);
+                    inFlightRequest.response.tryEmitEmpty();
+                    if (inFlightRequest.waiters.get() > 0) {
+                        log.debug("Shared response of {} with {} waiting requests", key, inFlightRequest.waiters.get());
+                    }
+                });
+    }
+
+    private static String requestKey(ServerHttpRequest request, String principal) {
+        String query = request.getURI().getRawQuery();
+        return request.getURI().getRawPath() + (query != null ? "?" + query : "") + "|" + principal;
+    }
+
+    private static final class InFlightRequest {
+
+        private final Sinks.One<CapturedResponse> response = Sinks.one();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    @Getter @Setter
+    public static class Config {
+
+        private final List<PathPattern> paths = new ArrayList<>();
+
+        /**
+         * Number of requests that may wait on one backend call.
+         */
+        private int maxWaiters = 100;
+
+        /**
+         * Coalesces GET requests of paths matching the pattern.
+         */
+        public Config coalesce(String pathPattern) {
+            paths.add(PathPatternParser.defaultInstance.parse(pathPattern));
+            return this;
+        }
+
+        boolean matches(ServerHttpRequest request) {
+            for (PathPattern path : paths) {
+                if (path.matches(request.getPath().pathWithinApplication())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
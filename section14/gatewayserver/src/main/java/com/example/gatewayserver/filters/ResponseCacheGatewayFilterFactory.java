@@ -0,0 +1,179 @@
+package com.example.gatewayserver.filters;
+
+import com.example.gatewayserver.config.ResponseCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR;
+
+/**
+ * Serves repeated GET requests from an in-memory cache instead of forwarding them to the backend.
+ * Responses are cached per path, query and authenticated principal, only with status 200, and for the
+ * time to live configured for the matching path, shortened by a max-age the backend sends.
+ * A request with Cache-Control no-cache skips the lookup, no-store skips the cache entirely.
+ * Only responses that came from the backend are stored, never a circuit breaker fallback.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_HEADER = "eazybank-cache";
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final String MAX_AGE = "max-age=";
+
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheProperties responseCacheProperties,
+                                             MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(responseCacheProperties.getMaximumSize().toBytes())
+                .weigher((String key, CachedResponse cached) -> key.length() + cached.response().body().length)
+                .expireAfter(Expiry.creating((String key, CachedResponse cached) -> cached.timeToLive()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Duration timeToLive = config.timeToLive(request.getPath().pathWithinApplication());
+            if (!HttpMethod.GET.equals(request.getMethod()) || timeToLive == null || !timeToLive.isPositive()) {
+                return chain.filter(exchange);
+            }
+            List<String> requestCacheControl = cacheControl(request.getHeaders());
+            if (requestCacheControl.contains("no-store")) {
+                return chain.filter(exchange);
+            }
+            return exchange.getPrincipal()
+                    .map(Principal::getName)
+                    .defaultIfEmpty(ANONYMOUS)
+                    .flatMap(principal -> {
+                        String key = cacheKey(request, principal);
+                        if (!requestCacheControl.contains("no-cache")) {
+                            CachedResponse cachedResponse = cache.getIfPresent(key);
+                            if (cachedResponse != null) {
+                                return writeCachedResponse(exchange, cachedResponse);
+                            }
+                        }
+                        ServerHttpResponse response = exchange.getResponse();
+                        return chain.filter(exchange.mutate()
+                                .response(new CapturingResponseDecorator(response,
+                                        delegate -> isBackendResponse(exchange)
+                                                && delegate.getStatusCode().value() == HttpStatus.OK.value()
+                                                && responseTimeToLive(delegate.getHeaders(), timeToLive) != null,
+                                        captured -> {
+                                            cache.put(key, new CachedResponse(captured,
+                                                    responseTimeToLive(captured.headers(), timeToLive)));
+                                            response.getHeaders().set(CACHE_HEADER, "MISS");
+                                        }))
+                                .build());
+                    });
+        };
+    }
+
+    private static String cacheKey(ServerHttpRequest request, String principal) {
+        String query = request.getURI().getRawQuery();
+        return request.getURI().getRawPath() + (query != null ? "?" + query : "") + "|" + principal;
+    }
+
+    /**
+     * A fallback forwarded to a local handler also answers with 200. It has no backend response
+     * and carries the exception that triggered it.
+     */
+    private static boolean isBackendResponse(ServerWebExchange exchange) {
+        return exchange.getAttribute(CLIENT_RESPONSE_ATTR) != null
+                && exchange.getAttribute(CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR) == null;
+    }
+
+    private static Mono<Void> writeCachedResponse(ServerWebExchange exchange, CachedResponse cachedResponse) {
+        exchange.getResponse().getHeaders().set(CACHE_HEADER, "HIT");
+        return cachedResponse.response().writeTo(exchange.getResponse());
+    }
+
+    private static List<String> cacheControl(HttpHeaders headers) {
+        List<String> directives = new ArrayList<>();
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                directives.add(directive.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return directives;
+    }
+
+    /**
+     * @return how long the response may be reused, or null if the backend does not allow caching it
+     */
+    private static Duration responseTimeToLive(HttpHeaders headers, Duration routeTimeToLive) {
+        Duration timeToLive = routeTimeToLive;
+        for (String directive : cacheControl(headers)) {
+            if (directive.equals("no-store") || directive.equals("no-cache")) {
+                return null;
+            }
+            if (directive.startsWith(MAX_AGE)) {
+                try {
+                    Duration maxAge = Duration.ofSeconds(Long.parseLong(directive.substring(MAX_AGE.length())));
+                    if (maxAge.compareTo(timeToLive) < 0) {
+                        timeToLive = maxAge;
+                    }
+                } catch (NumberFormatException ex) {
+                    return null;
+                }
+            }
+        }
+        return timeToLive.isPositive() ? timeToLive : null;
+    }
+
+    private record CachedResponse(CapturedResponse response, Duration timeToLive) {
+    }
+
+    public static class Config {
+
+        private final Map<PathPattern, Duration> timeToLive = new LinkedHashMap<>();
+
+        /**
+         * Caches GET responses of paths matching the pattern for the given time.
+         */
+        public Config cache(String pathPattern, Duration timeToLive) {
+            this.timeToLive.put(PathPatternParser.defaultInstance.parse(pathPattern), timeToLive);
+            return this;
+        }
+
+        Duration timeToLive(PathContainer path) {
+            for (Map.Entry<PathPattern, Duration> entry : timeToLive.entrySet()) {
+                if (entry.getKey().matches(path)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.gatewayserver.ratelimiter;
+
+import com.example.gatewayserver.config.RateLimiterProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket rate limiter that decides every request locally, without a Redis round trip.
+ * In hybrid mode the tokens used on this replica are added to per-window counters in Redis in the background.
+ * When all replicas together used up the budget of a window, the key is refused here until the window ends,
+ * so the limit stays approximately global. If Redis is unreachable, the replica keeps limiting on its own.
+ */
+@Slf4j
+@Primary
+@Component
+public class HybridRateLimiter implements RateLimiter<Object> {
+
+    private static final String KEY_PREFIX = "request_rate_limiter.";
+
+    private final RateLimiterProperties properties;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Cache<String, TokenBucket> buckets;
+    private final AtomicBoolean redisAvailable = new AtomicBoolean(true);
+    private final double tokensPerNano;
+    private final Map<String, String> headers;
+    private Disposable sync;
+
+    public HybridRateLimiter(RateLimiterProperties properties, ReactiveStringRedisTemplate redisTemplate,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.tokensPerNano = properties.getReplenishRate() / (double) Duration.ofSeconds(1).toNanos();
+        this.headers = Map.of(
+                RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(properties.getReplenishRate()),
+                RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(properties.getBurstCapacity()),
+                RedisRateLimiter.REQUESTED_TOKENS_HEADER, String.valueOf(properties.getRequestedTokens()));
+        Gauge.builder("gateway.ratelimiter.redis.available", redisAvailable, available -> available.get() ? 1 : 0)
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimiter.buckets", buckets, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startSync() {
+        if (properties.getMode() == RateLimiterProperties.Mode.HYBRID) {
+            sync = Flux.interval(properties.getSyncInterval())
+                    .onBackpressureDrop()
+                    .concatMap(tick -> syncWithRedis())
+                    .subscribe();
+        }
+    }
+
+    @PreDestroy
+    void stopSync() {
+        if (sync != null) {
+            sync.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        TokenBucket bucket = buckets.get(routeId + ":" + id, key -> new TokenBucket(properties.getBurstCapacity()));
+        long remaining = bucket.tryConsume(properties.getRequestedTokens(), System.nanoTime());
+        Map<String, String> responseHeaders = new HashMap<>(headers);
+        responseHeaders.put(RedisRateLimiter.REMAINING_HEADER, String.valueOf(Math.max(remaining, 0)));
+        return Mono.just(new Response(remaining >= 0, responseHeaders));
+    }
+
+    /**
+     * Adds the tokens used since the last round to the Redis counters of the current window
+     * and blocks the keys whose global budget is used up. The local count is only reduced once Redis
+     * confirmed the increment, so usage of a failed or timed out round is sent again in the next one.
+     */
+    Mono<Void> syncWithRedis() {
+        long windowMillis = properties.getWindow().toMillis();
+        long window = System.currentTimeMillis() / windowMillis;
+        long windowEnd = System.nanoTime() + ((window + 1) * windowMillis - System.currentTimeMillis()) * 1_000_000;
+        long budget = properties.getReplenishRate() * windowMillis / 1000 + properties.getBurstCapacity();
+        return Flux.fromIterable(buckets.asMap().entrySet())
+                .filter(entry -> entry.getValue().unsynced.sum() > 0)
+                .flatMap(entry -> {
+                    TokenBucket bucket = entry.getValue();
+                    long used = bucket.unsynced.sum();
+                    String redisKey = KEY_PREFIX + "{" + entry.getKey() + "}.window." + window;
+                    return redisTemplate.opsForValue().increment(redisKey, used)
+                            .doOnNext(total -> bucket.unsynced.add(-used))
+                            .flatMap(total -> redisTemplate.expire(redisKey, properties.getWindow().multipliedBy(2))
+                                    .thenReturn(total))
+                            .doOnNext(total -> {
+                                if (total > budget) {
+                                    bucket.blockedUntil = windowEnd;
+                                }
+                            });
+                })
+                .then()
+                .timeout(properties.getRedisTimeout())
+                .doOnSuccess(ignored -> {
+                    if (redisAvailable.compareAndSet(false, true)) {
+                        log.info("Redis reachable again, rate limits are reconciled across replicas");
+                    }
+                })
+                .onErrorResume(ex -> {
+                    if (redisAvailable.compareAndSet(true, false)) {
+                        log.warn("Redis unreachable, rate limiting with local buckets only: {}", ex.toString());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Map<String, Object> getConfig() {
+        return Map.of();
+    }
+
+    @Override
+    public Class<Object> getConfigClass() {
+        return Object.class;
+    }
+
+    @Override
+    public Object newConfig() {
+        return new Object();
+    }
+
+    private final class TokenBucket {
+
+        private final AtomicReference<State> state;
+        private final LongAdder unsynced = new LongAdder();
+        private volatile long blockedUntil;
+
+        private TokenBucket(int burstCapacity) {
+            long now = System.nanoTime();
+            this.state = new AtomicReference<>(new State(burstCapacity, now));
+            this.blockedUntil = now;
+        }
+
+        /**
+         * @return the tokens left after taking the requested ones, or -1 if the request is refused
+         */
+        private long tryConsume(int requested, long now) {
+            if (now - blockedUntil < 0) {
+                return -1;
+            }
+            while (true) {
+                State current = state.get();
+                double tokens = Math.min(properties.getBurstCapacity(),
+                        current.tokens() + Math.max(0, now - current.refilledAt()) * tokensPerNano);
+                if (tokens < requested) {
+                    return -1;
+                }
+                if (state.compareAndSet(current, new State(tokens - requested, Math.max(now, current.refilledAt())))) {
+                    unsynced.add(requested);
+                    return (long) (tokens - requested);
+                }
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.gatewayserver.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private final RequestCoalescingGatewayFilterFactory factory =
+            new RequestCoalescingGatewayFilterFactory(new SimpleMeterRegistry());
+    private final AtomicInteger backendCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> release = Sinks.empty();
+
+    @Test
+    void sharesResponseWithConcurrentIdenticalRequest() {
+        GatewayFilter filter = factory.apply(config -> config.coalesce("/api/fetch").setMaxWaiters(10));
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+
+        filter.filter(first, slowBackend("customer 1")).subscribe();
+        filter.filter(second, slowBackend("customer 1 again")).subscribe();
+        release.tryEmitEmpty();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals("customer 1", first.getResponse().getBodyAsString().block());
+        assertEquals("customer 1", second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void forwardsRequestsBeyondMaxWaiters() {
+        GatewayFilter filter = factory.apply(config -> config.coalesce("/api/fetch").setMaxWaiters(0));
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")),
+                slowBackend("customer 1")).subscribe();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")),
+                slowBackend("customer 1")).subscribe();
+        release.tryEmitEmpty();
+
+        assertEquals(2, backendCalls.get());
+    }
+
+    @Test
+    void forwardsWaitersWhenThereIsNoResponseToShare() {
+        GatewayFilter filter = factory.apply(config -> config.coalesce("/api/fetch").setMaxWaiters(10));
+        GatewayFilterChain emptyBackend = exchange -> {
+            backendCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> exchange.getResponse().setComplete()));
+        };
+        MockServerWebExchange waiter = MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")),
+                emptyBackend).subscribe();
+        filter.filter(waiter, exchange -> {
+            backendCalls.incrementAndGet();
+            return write(exchange, "customer 1");
+        }).subscribe();
+        release.tryEmitEmpty();
+
+        assertEquals(2, backendCalls.get());
+        assertEquals("customer 1", waiter.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void doesNotCoalesceDifferentQueriesOrOtherMethods() {
+        GatewayFilter filter = factory.apply(config -> config.coalesce("/api/fetch").setMaxWaiters(10));
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")),
+                slowBackend("customer 1")).subscribe();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/fetch?mobileNumber=2")),
+                slowBackend("customer 2")).subscribe();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/fetch?mobileNumber=1")),
+                slowBackend("customer 1")).subscribe();
+        release.tryEmitEmpty();
+
+        assertEquals(3, backendCalls.get());
+    }
+
+    /**
+     * Answers once the test releases it, so the requests issued before overlap.
+     */
+    private GatewayFilterChain slowBackend(String body) {
+        return exchange -> {
+            backendCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> write(exchange, body)));
+        };
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, String body) {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                .wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.gatewayserver.filters;
+
+import com.example.gatewayserver.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private final GatewayFilter filter = new ResponseCacheGatewayFilterFactory(new ResponseCacheProperties(),
+            new SimpleMeterRegistry())
+            .apply(config -> config.cache("/api/fetch", Duration.ofMinutes(1)));
+    private final AtomicInteger backendCalls = new AtomicInteger();
+
+    @Test
+    void servesRepeatedGetFromCache() {
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+        filter.filter(first, backend("card 1")).block();
+        MockServerWebExchange second = exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+        filter.filter(second, backend("changed")).block();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+        assertEquals("card 1", second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void keysByQuery() {
+        filter.filter(exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")), backend("card 1")).block();
+        MockServerWebExchange other = exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=2"));
+        filter.filter(other, backend("card 2")).block();
+
+        assertEquals(2, backendCalls.get());
+        assertEquals("card 2", other.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void doesNotCacheFallbackResponse() {
+        GatewayFilterChain fallback = exchange -> {
+            exchange.getAttributes().put(CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR, new IllegalStateException("down"));
+            return write(exchange, "An error occurred");
+        };
+        filter.filter(exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")), fallback).block();
+        MockServerWebExchange next = exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+        filter.filter(next, backend("card 1")).block();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals("card 1", next.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void doesNotCacheNonOkResponse() {
+        GatewayFilterChain notFound = exchange -> {
+            backendCalls.incrementAndGet();
+            exchange.getAttributes().put(CLIENT_RESPONSE_ATTR, "backend");
+            exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return exchange.getResponse().setComplete();
+        };
+        filter.filter(exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")), notFound).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")), backend("card 1")).block();
+
+        assertEquals(2, backendCalls.get());
+    }
+
+    @Test
+    void noStoreBypassesCache() {
+        filter.filter(exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1")
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")), backend("card 1")).block();
+        MockServerWebExchange next = exchange(MockServerHttpRequest.get("/api/fetch?mobileNumber=1"));
+        filter.filter(next, backend("card 1")).block();
+
+        assertEquals(2, backendCalls.get());
+        assertEquals("MISS", next.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+    }
+
+    @Test
+    void ignoresUnconfiguredPath() {
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get("/api/contact-info"));
+        filter.filter(first, backend("contact")).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/api/contact-info")), backend("contact")).block();
+
+        assertEquals(2, backendCalls.get());
+        assertNull(first.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_HEADER));
+    }
+
+    private GatewayFilterChain backend(String body) {
+        return exchange -> {
+            backendCalls.incrementAndGet();
+            exchange.getAttributes().put(CLIENT_RESPONSE_ATTR, "backend");
+            return write(exchange, body);
+        };
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, String body) {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                .wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
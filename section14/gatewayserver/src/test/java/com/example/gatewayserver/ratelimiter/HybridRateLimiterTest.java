@@ -0,0 +1,98 @@
+package com.example.gatewayserver.ratelimiter;
+
+import com.example.gatewayserver.config.RateLimiterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HybridRateLimiterTest {
+
+    private final RateLimiterProperties properties = new RateLimiterProperties();
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, String> valueOperations = mock(ReactiveValueOperations.class);
+    private HybridRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setReplenishRate(1);
+        properties.setBurstCapacity(3);
+        properties.setWindow(Duration.ofMinutes(1));
+        properties.setRedisTimeout(Duration.ofSeconds(5));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.expire(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+        rateLimiter = new HybridRateLimiter(properties, redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void refusesRequestsBeyondBurstCapacity() {
+        assertTrue(allowed("user"));
+        assertTrue(allowed("user"));
+        RateLimiter.Response last = rateLimiter.isAllowed("cards", "user").block();
+        assertTrue(last.isAllowed());
+        assertEquals("0", last.getHeaders().get(RedisRateLimiter.REMAINING_HEADER));
+
+        assertFalse(allowed("user"));
+        assertTrue(allowed("other user"));
+    }
+
+    @Test
+    void blocksKeyWhenGlobalBudgetIsUsedUp() {
+        when(valueOperations.increment(anyString(), anyLong())).thenReturn(Mono.just(1_000L));
+
+        assertTrue(allowed("user"));
+        rateLimiter.syncWithRedis().block();
+
+        assertFalse(allowed("user"));
+        assertTrue(allowed("other user"));
+    }
+
+    @Test
+    void keepsUsageOfFailedRoundForTheNextOne() {
+        when(valueOperations.increment(anyString(), anyLong()))
+                .thenReturn(Mono.error(new IllegalStateException("redis down")))
+                .thenReturn(Mono.just(2L));
+
+        assertTrue(allowed("user"));
+        rateLimiter.syncWithRedis().block();
+        assertTrue(allowed("user"));
+        rateLimiter.syncWithRedis().block();
+
+        verify(valueOperations).increment(anyString(), eq(1L));
+        verify(valueOperations).increment(anyString(), eq(2L));
+    }
+
+    @Test
+    void usesTheSameRedisKeyForTheSameRouteAndUser() {
+        when(valueOperations.increment(anyString(), anyLong())).thenReturn(Mono.just(1L));
+        long window = System.currentTimeMillis() / properties.getWindow().toMillis();
+
+        assertTrue(allowed("user"));
+        rateLimiter.syncWithRedis().block();
+
+        verify(valueOperations).increment(
+                eq("request_rate_limiter.{cards:user}.window." + window), eq(1L));
+    }
+
+    private boolean allowed(String user) {
+        return rateLimiter.isAllowed("cards", user).block().isAllowed();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.loans.benchmark;
+
+import com.example.loans.dto.LoansDto;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static LoansDto loansDto() {
+        LoansDto loansDto = new LoansDto();
+        loansDto.setMobileNumber("3809865342");
+        loansDto.setLoanNumber("100000000042");
+        loansDto.setLoanType("Home Loan");
+        loansDto.setTotalLoan(100000);
+        loansDto.setAmountPaid(1000);
+        loansDto.setOutstandingAmount(99000);
+        loansDto.setVersion(2L);
+        return loansDto;
+    }
+}
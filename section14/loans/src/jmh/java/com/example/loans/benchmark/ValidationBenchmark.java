@@ -0,0 +1,70 @@
+package com.example.loans.benchmark;
+
+import com.example.loans.dto.LoansDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean validation of the request body of the create and update endpoints. The validator is built once, as in the
+ * application, so its constraint metadata and compiled patterns are reused. A fresh validator per call shows what
+ * that reuse saves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private LoansDto validLoans;
+    private LoansDto invalidLoans;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validLoans = BenchmarkData.loansDto();
+        invalidLoans = BenchmarkData.loansDto();
+        invalidLoans.setMobileNumber("12345");
+        invalidLoans.setLoanNumber("123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<LoansDto>> validLoansDto() {
+        return validator.validate(validLoans);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<LoansDto>> invalidLoansDto() {
+        return validator.validate(invalidLoans);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<LoansDto>> validLoansDtoWithValidatorPerCall() {
+        return validatorFactory.getValidator().validate(validLoans);
+    }
+}
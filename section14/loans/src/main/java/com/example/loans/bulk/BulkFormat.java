@@ -0,0 +1,22 @@
+package com.example.loans.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats of the bulk endpoints, one record per line.
+ */
+public enum BulkFormat {
+
+    NDJSON, CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static BulkFormat of(MediaType contentType) {
+        return contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE)) ? CSV : NDJSON;
+    }
+
+    public MediaType mediaType() {
+        return MediaType.parseMediaType(this == CSV ? CSV_VALUE : NDJSON_VALUE);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.loans.bulk;
+
+/**
+ * @param line  - Line of the record in the uploaded file, used to report its result
+ * @param value - Parsed and validated record
+ */
+public record BulkRecord<T>(long line, T value) {
+}
@@ -7,6 +7,10 @@ public class LoansConstants {
     }
     public static final String HOME_LOAN = "Home Loan";
     public static final int NEW_LOAN_LIMIT = 1_000_00;
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int BULK_CHUNK_SIZE = 500;
+    // loan_number_seq ends below, imported loans keep their numbers from here on
+    public static final long FIRST_IMPORTED_LOAN_NUMBER = 900_000_000_000L;
     public static final String STATUS_200 = "200";
     public static final String MESSAGE_200 = "Request processed successfully";
     public static final String STATUS_201 = "201";
@@ -1,5 +1,8 @@
 package com.example.loans.controllers;
 
+import com.example.loans.bulk.BulkFormat;
+import com.example.loans.bulk.BulkProcessor;
+import com.example.loans.bulk.BulkResultDto;
 import com.example.loans.constants.LoansConstants;
 import com.example.loans.dto.ErrorResponseDto;
 import com.example.loans.dto.LoansContactInfoDto;
@@ -12,8 +15,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,6 +28,11 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 @Tag(name = "CRUD REST APIs for Loans in EazyBank",
         description = "CRUD REST APIs in EazyBank to CREATE, FETCH, UPDATE AND DELETE loans details")
@@ -42,6 +52,8 @@ public class LoansController {
 
     private final LoansContactInfoDto loansContactInfoDto;
 
+    private final BulkProcessor bulkProcessor;
+
     @Operation(summary = "REST API to create loan",
             description = "REST API to create new loan inside EazyBank")
     @ApiResponses({
@@ -92,6 +104,33 @@ public class LoansController {
                 .body(loansDto);
     }
 
+    @Operation(summary = "REST API to fetch loans in batch",
+            description = "REST API to fetch loans inside EazyBank for a list of mobile numbers in a single call")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status INTERNAL_SERVER_ERROR",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )),
+    })
+    @PostMapping("/fetchBatch")
+    public ResponseEntity<List<LoansDto>> fetchBatchLoanDetails(@RequestBody
+                                                                @Size(max = LoansConstants.MAX_BATCH_SIZE,
+                                                                        message = "At most " + LoansConstants.MAX_BATCH_SIZE + " mobile numbers are allowed")
+                                                                List<@Pattern(regexp = "(^$|[0-9]{10})",
+                                                                        message = "Mobile number must be 10 digits") String> mobileNumbers) {
+        log.debug("fetchBatchLoanDetails method start");
+        List<LoansDto> loansDtos = loansService.fetchLoans(mobileNumbers);
+        log.debug("fetchBatchLoanDetails method end");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(loansDtos);
+    }
+
     @Operation(summary = "REST API to update loan",
             description = "REST API to update loan inside EazyBank")
     @ApiResponses({
@@ -157,6 +196,59 @@ public class LoansController {
         }
     }
 
+    @Operation(summary = "Bulk import Loans REST API",
+            description = "REST API to create loans from an NDJSON or CSV upload, the result of every record is streamed back as NDJSON")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = BulkResultDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping(path = "/bulk/import", consumes = {BulkFormat.NDJSON_VALUE, BulkFormat.CSV_VALUE},
+            produces = BulkFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importLoans(HttpServletRequest request) throws IOException {
+        BulkFormat format = BulkFormat.of(MediaType.parseMediaType(request.getContentType()));
+        InputStream input = request.getInputStream();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(BulkFormat.NDJSON.mediaType())
+                .body(output -> bulkProcessor.importRecords(input, format, LoansDto.class,
+                        LoansConstants.BULK_CHUNK_SIZE, loansService::importLoans, output));
+    }
+
+    @Operation(summary = "Bulk export Loans REST API",
+            description = "REST API to stream the details of all loans as NDJSON or CSV")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status Internal Server Error",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @GetMapping(path = "/bulk/export", produces = {BulkFormat.NDJSON_VALUE, BulkFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportLoans(@RequestParam(defaultValue = "NDJSON") BulkFormat format) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(format.mediaType())
+                .body(output -> bulkProcessor.exportRecords(format, LoansDto.class, loansService::exportLoans, output));
+    }
+
     @Operation(summary = "Get Build information REST API",
             description = "Get Build information that is deployed into accounts microservice")
     @ApiResponses({
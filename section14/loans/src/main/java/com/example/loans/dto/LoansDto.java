@@ -36,4 +36,7 @@ public class LoansDto {
     @Schema(description = "Total outstanding amount against a loan", example = "40000")
     @PositiveOrZero(message = "Total outstanding amount should be equal or greater than zero")
     private int outstandingAmount;
+
+    @Schema(description = "Version of the loan details, an update is rejected if the loan was changed since", example = "0")
+    private Long version;
 }
@@ -9,7 +9,8 @@ import lombok.*;
 public class Loans extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_id_seq")
+    @SequenceGenerator(name = "loan_id_seq", sequenceName = "loan_id_seq", allocationSize = 50)
     private Long loanId;
 
     private String mobileNumber;
@@ -0,0 +1,70 @@
+package com.example.loans.generator;
+
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out unique loan numbers from blocks leased from the `loan_number_seq` sequence.
+ * Every sequence value reserves BLOCK_SIZE consecutive numbers, so the database is only hit once per block
+ * and numbers never collide, also between replicas sharing the same database.
+ */
+@Component
+public class LoanNumberGenerator {
+
+    /**
+     * Must match the INCREMENT BY of the `loan_number_seq` sequence.
+     */
+    static final int BLOCK_SIZE = 100;
+
+    private final DataFieldMaxValueIncrementer incrementer;
+    private final ReentrantLock leaseLock = new ReentrantLock();
+    private volatile Block block = Block.EXHAUSTED;
+
+    public LoanNumberGenerator(DataSource dataSource) {
+        this.incrementer = new H2SequenceMaxValueIncrementer(dataSource, "loan_number_seq");
+    }
+
+    /**
+     * @return the next unused loan number
+     */
+    public long nextLoanNumber() {
+        while (true) {
+            Block current = block;
+            long number = current.next.getAndIncrement();
+            if (number < current.limit) {
+                return number;
+            }
+            leaseBlock(current);
+        }
+    }
+
+    private void leaseBlock(Block exhausted) {
+        leaseLock.lock();
+        try {
+            if (block == exhausted) {
+                long start = incrementer.nextLongValue();
+                block = new Block(start, start + BLOCK_SIZE);
+            }
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private static final class Block {
+
+        private static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(long start, long limit) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
@@ -12,6 +12,7 @@ public class LoansMapper {
         loansDto.setMobileNumber(loans.getMobileNumber());
         loansDto.setOutstandingAmount(loans.getOutstandingAmount());
         loansDto.setAmountPaid(loans.getAmountPaid());
+        loansDto.setVersion(loans.getVersion());
         return loansDto;
     }
 
@@ -1,10 +1,21 @@
 package com.example.loans.repository;
 
 import com.example.loans.entity.Loans;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LoansRepository extends JpaRepository<Loans, Long> {
@@ -12,4 +23,42 @@ public interface LoansRepository extends JpaRepository<Loans, Long> {
     Optional<Loans> findByMobileNumber(String mobileNumber);
 
     Optional<Loans> findByLoanNumber(String loanNumber);
+
+    List<Loans> findAllByMobileNumberIn(Collection<String> mobileNumbers);
+
+    List<Loans> findAllByLoanNumberIn(Collection<String> loanNumbers);
+
+    boolean existsByLoanNumber(String loanNumber);
+
+    /**
+     * Updates the loan in one statement. If a version is given, only a loan still at that version is updated.
+     *
+     * @return number of updated loans, 0 if there is no such loan or its version differs
+     */
+    @Transactional
+    @Modifying
+    @Query("update Loans l set l.mobileNumber = :mobileNumber, l.loanType = :loanType, l.totalLoan = :totalLoan,"
+            + " l.amountPaid = :amountPaid, l.outstandingAmount = :outstandingAmount, l.version = l.version + 1,"
+            + " l.updatedAt = :updatedAt, l.updatedBy = :updatedBy"
+            + " where l.loanNumber = :loanNumber and (:version is null or l.version = :version)")
+    int updateByLoanNumber(@Param("loanNumber") String loanNumber, @Param("mobileNumber") String mobileNumber,
+                           @Param("loanType") String loanType, @Param("totalLoan") int totalLoan,
+                           @Param("amountPaid") int amountPaid, @Param("outstandingAmount") int outstandingAmount,
+                           @Param("version") Long version, @Param("updatedAt") LocalDateTime updatedAt,
+                           @Param("updatedBy") String updatedBy);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Loans l where l.mobileNumber = :mobileNumber")
+    int deleteByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    /**
+     * Reads the rows through a cursor in batches of the fetch size, the caller has to close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select l from Loans l")
+    Stream<Loans> streamAll();
 }
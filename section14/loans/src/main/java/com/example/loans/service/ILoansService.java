@@ -1,8 +1,13 @@
 package com.example.loans.service;
 
 
+import com.example.loans.bulk.BulkRecord;
+import com.example.loans.bulk.BulkResultDto;
 import com.example.loans.dto.LoansDto;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface ILoansService {
 
     /**
@@ -16,6 +21,12 @@ public interface ILoansService {
      */
     LoansDto fetchLoan(String mobileNumber);
 
+    /**
+     * @param mobileNumbers - Input mobile Numbers
+     * @return Loan Details of every given mobileNumber that has a loan
+     */
+    List<LoansDto> fetchLoans(List<String> mobileNumbers);
+
     /**
      * @param loansDto - LoansDto Object
      * @return boolean indicating if the update of card details is successful or not
@@ -28,4 +39,15 @@ public interface ILoansService {
      */
     boolean deleteLoan(String mobileNumber);
 
+    /**
+     * @param loans - Validated loans of one import chunk
+     * @return the result of every given loan
+     */
+    List<BulkResultDto> importLoans(List<BulkRecord<LoansDto>> loans);
+
+    /**
+     * @param consumer - Receives the details of every loan
+     */
+    void exportLoans(Consumer<LoansDto> consumer);
+
 }
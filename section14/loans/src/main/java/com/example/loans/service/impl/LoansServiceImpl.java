@@ -1,35 +1,60 @@
 package com.example.loans.service.impl;
 
+import com.example.loans.bulk.BulkRecord;
+import com.example.loans.bulk.BulkResultDto;
 import com.example.loans.constants.LoansConstants;
 import com.example.loans.dto.LoansDto;
 import com.example.loans.entity.Loans;
 import com.example.loans.exception.LoanAlreadyExistsException;
 import com.example.loans.exception.ResourceNotFoundException;
+import com.example.loans.generator.LoanNumberGenerator;
 import com.example.loans.mapper.LoansMapper;
 import com.example.loans.repository.LoansRepository;
 import com.example.loans.service.ILoansService;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-import java.util.Random;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class LoansServiceImpl implements ILoansService {
 
+    private static final String LOAN_NUMBER_CONSTRAINT = "uk_loans_loan_number";
+
     private final LoansRepository loansRepository;
+    private final LoanNumberGenerator loanNumberGenerator;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
 
     /**
      * @param mobileNumber - Mobile Number of the Customer
      */
     @Override
     public void createLoan(String mobileNumber) {
-        Optional<Loans> optionalLoans = loansRepository.findByMobileNumber(mobileNumber);
-        if (optionalLoans.isPresent()) {
+        Loans newLoan = createNewLoan(mobileNumber);
+        try {
+            loansRepository.saveAndFlush(newLoan);
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, LOAN_NUMBER_CONSTRAINT)) {
+                throw new IllegalStateException("Loan number " + newLoan.getLoanNumber()
+                        + " is already taken, loan_number_seq is behind the existing loans");
+            }
             throw new LoanAlreadyExistsException("Loan already registered with given mobileNumber " + mobileNumber);
         }
-        loansRepository.save(createNewLoan(mobileNumber));
     }
 
     /**
@@ -43,6 +68,17 @@ public class LoansServiceImpl implements ILoansService {
         return LoansMapper.mapToLoansDto(loan, new LoansDto());
     }
 
+    /**
+     * @param mobileNumbers - Input mobile Numbers
+     * @return Loan Details of every given mobileNumber that has a loan
+     */
+    @Override
+    public List<LoansDto> fetchLoans(List<String> mobileNumbers) {
+        return loansRepository.findAllByMobileNumberIn(mobileNumbers).stream()
+                .map(loan -> LoansMapper.mapToLoansDto(loan, new LoansDto()))
+                .toList();
+    }
+
     /**
 
      * @param loansDto - LoansDto Object
@@ -50,10 +86,17 @@ public class LoansServiceImpl implements ILoansService {
      */
     @Override
     public boolean updateLoan(LoansDto loansDto) {
-        var optionalLoans = loansRepository.findByLoanNumber(loansDto.getLoanNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Loans", "LoanNumber", loansDto.getLoanNumber()));
-        LoansMapper.mapToLoans(loansDto, optionalLoans);
-        loansRepository.save(optionalLoans);
+        int updated = loansRepository.updateByLoanNumber(loansDto.getLoanNumber(), loansDto.getMobileNumber(),
+                loansDto.getLoanType(), loansDto.getTotalLoan(), loansDto.getAmountPaid(),
+                loansDto.getOutstandingAmount(), loansDto.getVersion(), LocalDateTime.now(),
+                auditorAware.getCurrentAuditor().orElse(null));
+        if (updated == 0) {
+            if (loansDto.getVersion() != null && loansRepository.existsByLoanNumber(loansDto.getLoanNumber())) {
+                throw new OptimisticLockingFailureException("Loan " + loansDto.getLoanNumber()
+                        + " was changed since version " + loansDto.getVersion());
+            }
+            throw new ResourceNotFoundException("Loans", "LoanNumber", loansDto.getLoanNumber());
+        }
         return true;
 
     }
@@ -64,20 +107,78 @@ public class LoansServiceImpl implements ILoansService {
      */
     @Override
     public boolean deleteLoan(String mobileNumber) {
-        var optionalLoans = loansRepository.findByMobileNumber(mobileNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Loans", "MobileNumber", mobileNumber));
-        loansRepository.deleteById(optionalLoans.getLoanId());
+        if (loansRepository.deleteByMobileNumber(mobileNumber) == 0) {
+            throw new ResourceNotFoundException("Loans", "MobileNumber", mobileNumber);
+        }
         return true;
     }
 
+    /**
+     * Checks the whole chunk against the existing loans with two queries and inserts the new ones in JDBC batches.
+     * Imported loans keep their numbers, so these have to lie above the range the loan_number_seq hands out.
+     *
+     * @param loans - Validated loans of one import chunk
+     * @return the result of every given loan
+     */
+    @Override
+    @Transactional
+    public List<BulkResultDto> importLoans(List<BulkRecord<LoansDto>> loans) {
+        Set<String> takenMobileNumbers = loansRepository.findAllByMobileNumberIn(
+                        loans.stream().map(loan -> loan.value().getMobileNumber()).toList()).stream()
+                .map(Loans::getMobileNumber)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> takenLoanNumbers = loansRepository.findAllByLoanNumberIn(
+                        loans.stream().map(loan -> loan.value().getLoanNumber()).toList()).stream()
+                .map(Loans::getLoanNumber)
+                .collect(Collectors.toCollection(HashSet::new));
+        List<BulkResultDto> results = new ArrayList<>(loans.size());
+        List<Loans> newLoans = new ArrayList<>(loans.size());
+        for (BulkRecord<LoansDto> loan : loans) {
+            LoansDto loansDto = loan.value();
+            if (Long.parseLong(loansDto.getLoanNumber()) < LoansConstants.FIRST_IMPORTED_LOAN_NUMBER) {
+                results.add(BulkResultDto.rejected(loan.line(), "LoanNumber " + loansDto.getLoanNumber()
+                        + " is reserved for new loans, imported loans start at "
+                        + LoansConstants.FIRST_IMPORTED_LOAN_NUMBER));
+            } else if (takenMobileNumbers.contains(loansDto.getMobileNumber())) {
+                results.add(BulkResultDto.rejected(loan.line(),
+                        "Loan already registered with given mobileNumber " + loansDto.getMobileNumber()));
+            } else if (takenLoanNumbers.contains(loansDto.getLoanNumber())) {
+                results.add(BulkResultDto.rejected(loan.line(),
+                        "Loan already registered with given loanNumber " + loansDto.getLoanNumber()));
+            } else {
+                takenMobileNumbers.add(loansDto.getMobileNumber());
+                takenLoanNumbers.add(loansDto.getLoanNumber());
+                newLoans.add(LoansMapper.mapToLoans(loansDto, new Loans()));
+                results.add(BulkResultDto.created(loan.line()));
+            }
+        }
+        loansRepository.saveAll(newLoans);
+        return results;
+    }
+
+    /**
+     * Every loan is detached once it is passed on, so the persistence context does not grow with the table.
+     *
+     * @param consumer - Receives the details of every loan
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportLoans(Consumer<LoansDto> consumer) {
+        try (Stream<Loans> loans = loansRepository.streamAll()) {
+            loans.forEach(loan -> {
+                consumer.accept(LoansMapper.mapToLoansDto(loan, new LoansDto()));
+                entityManager.detach(loan);
+            });
+        }
+    }
+
     /**
      * @param mobileNumber - Mobile Number of the Customer
      * @return the new loan details
      */
     private Loans createNewLoan(String mobileNumber) {
         Loans newLoan = new Loans();
-        long randomLoanNumber = 100000000000L + new Random().nextInt(900000000);
-        newLoan.setLoanNumber(Long.toString(randomLoanNumber));
+        newLoan.setLoanNumber(Long.toString(loanNumberGenerator.nextLoanNumber()));
         newLoan.setMobileNumber(mobileNumber);
         newLoan.setLoanType(LoansConstants.HOME_LOAN);
         newLoan.setTotalLoan(LoansConstants.NEW_LOAN_LIMIT);
@@ -85,4 +186,12 @@ public class LoansServiceImpl implements ILoansService {
         newLoan.setOutstandingAmount(LoansConstants.NEW_LOAN_LIMIT);
         return newLoan;
     }
+
+    /**
+     * The constraint is named in the message of the database error, the exception does not carry it on its own.
+     */
+    private static boolean violates(DataIntegrityViolationException ex, String constraint) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraint);
+    }
 }
@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS `loan_number_seq` START WITH 100000000000 INCREMENT BY 100;
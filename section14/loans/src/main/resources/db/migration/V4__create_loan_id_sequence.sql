@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS `loan_id_seq` START WITH 1 INCREMENT BY 50;
@@ -0,0 +1 @@
+ALTER TABLE `loans` ADD COLUMN `version` bigint NOT NULL DEFAULT 0;
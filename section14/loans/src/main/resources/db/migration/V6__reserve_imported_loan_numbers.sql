@@ -0,0 +1,3 @@
+-- The numbers from 900000000000 on are left to imported loans, see LoansConstants.FIRST_IMPORTED_LOAN_NUMBER.
+-- The last value reserves the block up to 899999999999.
+ALTER SEQUENCE `loan_number_seq` MAXVALUE 899999999900;
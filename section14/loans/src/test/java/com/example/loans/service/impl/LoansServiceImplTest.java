@@ -0,0 +1,85 @@
+package com.example.loans.service.impl;
+
+import com.example.loans.bulk.BulkRecord;
+import com.example.loans.bulk.BulkResultDto;
+import com.example.loans.constants.LoansConstants;
+import com.example.loans.dto.LoansDto;
+import com.example.loans.entity.Loans;
+import com.example.loans.exception.LoanAlreadyExistsException;
+import com.example.loans.generator.LoanNumberGenerator;
+import com.example.loans.repository.LoansRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoansServiceImplTest {
+
+    private static final String MOBILE_NUMBER = "1000000001";
+
+    private final LoansRepository loansRepository = mock(LoansRepository.class);
+    private final LoanNumberGenerator loanNumberGenerator = mock(LoanNumberGenerator.class);
+    private final LoansServiceImpl loansService = new LoansServiceImpl(loansRepository, loanNumberGenerator,
+            mock(EntityManager.class), () -> Optional.of("test"));
+
+    @Test
+    void rejectsImportedLoanNumbersOfTheGeneratedRange() {
+        List<BulkResultDto> results = loansService.importLoans(List.of(
+                new BulkRecord<>(2, loansDto("1000000001", "100000000001")),
+                new BulkRecord<>(3, loansDto("1000000002", String.valueOf(LoansConstants.FIRST_IMPORTED_LOAN_NUMBER)))));
+
+        assertEquals(BulkResultDto.Status.REJECTED, results.get(0).status());
+        assertEquals(BulkResultDto.Status.CREATED, results.get(1).status());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Loans>> saved = ArgumentCaptor.forClass(List.class);
+        verify(loansRepository).saveAll(saved.capture());
+        assertEquals(List.of(String.valueOf(LoansConstants.FIRST_IMPORTED_LOAN_NUMBER)),
+                saved.getValue().stream().map(Loans::getLoanNumber).toList());
+    }
+
+    @Test
+    void reportsTakenLoanNumberAsServerError() {
+        when(loanNumberGenerator.nextLoanNumber()).thenReturn(100000000000L);
+        when(loansRepository.saveAndFlush(any())).thenThrow(violation("UK_LOANS_LOAN_NUMBER_INDEX_3"));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> loansService.createLoan(MOBILE_NUMBER));
+        assertEquals("Loan number 100000000000 is already taken, loan_number_seq is behind the existing loans",
+                ex.getMessage());
+    }
+
+    @Test
+    void reportsTakenMobileNumberAsExistingLoan() {
+        when(loanNumberGenerator.nextLoanNumber()).thenReturn(100000000000L);
+        when(loansRepository.saveAndFlush(any())).thenThrow(violation("UK_LOANS_MOBILE_NUMBER_INDEX_3"));
+
+        assertThrows(LoanAlreadyExistsException.class, () -> loansService.createLoan(MOBILE_NUMBER));
+    }
+
+    private static DataIntegrityViolationException violation(String index) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException(
+                        "Unique index or primary key violation: \"PUBLIC." + index + " ON PUBLIC.LOANS\""));
+    }
+
+    private static LoansDto loansDto(String mobileNumber, String loanNumber) {
+        LoansDto loansDto = new LoansDto();
+        loansDto.setMobileNumber(mobileNumber);
+        loansDto.setLoanNumber(loanNumber);
+        loansDto.setLoanType(LoansConstants.HOME_LOAN);
+        loansDto.setTotalLoan(LoansConstants.NEW_LOAN_LIMIT);
+        loansDto.setOutstandingAmount(LoansConstants.NEW_LOAN_LIMIT);
+        return loansDto;
+    }
+}
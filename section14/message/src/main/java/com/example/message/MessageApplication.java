@@ -1,9 +1,12 @@
 package com.example.message;
 
+import com.example.message.config.NotificationProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
+@EnableConfigurationProperties(NotificationProperties.class)
 public class MessageApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package com.example.message.config;
+
+import com.example.message.converter.BinaryEventMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+
+@Configuration
+public class EventConverterConfig {
+
+    /**
+     * Picked up by Spring Cloud Stream for the bindings with content-type application/x-eazybank-event.
+     */
+    @Bean
+    public MessageConverter binaryEventMessageConverter(ObjectMapper objectMapper) {
+        return new BinaryEventMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.message.config;
+
+import com.example.message.notification.FakeNotificationProvider;
+import com.example.message.notification.KafkaNotificationReplySender;
+import com.example.message.notification.NotificationPipeline;
+import com.example.message.notification.NotificationProvider;
+import com.example.message.notification.NotificationReplySender;
+import com.example.message.notification.NotificationStage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.cloud.stream.binder.reactorkafka.ReceiverOptionsCustomizer;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class NotificationConfig {
+
+    public static final String EMAIL = "email";
+    public static final String SMS = "sms";
+
+    /**
+     * The fake providers are used until a real provider bean with the same name is defined.
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "emailProvider")
+    public NotificationProvider emailProvider(NotificationProperties notificationProperties) {
+        return new FakeNotificationProvider(EMAIL, notificationProperties.channel(EMAIL));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "smsProvider")
+    public NotificationProvider smsProvider(NotificationProperties notificationProperties) {
+        return new FakeNotificationProvider(SMS, notificationProperties.channel(SMS));
+    }
+
+    /**
+     * The lanes acknowledge out of order, deferred commits keep the committed offset below the oldest
+     * record still in progress.
+     */
+    @Bean
+    public ReceiverOptionsCustomizer<Object, Object> notificationReceiverOptionsCustomizer(
+            NotificationProperties notificationProperties) {
+        return (binding, receiverOptions) -> binding.startsWith("notification-in-")
+                ? receiverOptions.maxDeferredCommits(notificationProperties.getMaxDeferredCommits())
+                : receiverOptions;
+    }
+
+    /**
+     * Idempotent producer for the replies, so a retried send does not duplicate a reply.
+     */
+    @Bean(destroyMethod = "close")
+    public KafkaSender<String, byte[]> notificationReplyKafkaSender(KafkaProperties kafkaProperties) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties(null);
+        producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return KafkaSender.create(SenderOptions.create(producerProperties));
+    }
+
+    @Bean
+    public NotificationReplySender notificationReplySender(KafkaSender<String, byte[]> notificationReplyKafkaSender,
+                                                           NotificationProperties notificationProperties) {
+        return new KafkaNotificationReplySender(notificationReplyKafkaSender, notificationProperties);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public NotificationPipeline notificationPipeline(@Qualifier("emailProvider") NotificationProvider emailProvider,
+                                                     @Qualifier("smsProvider") NotificationProvider smsProvider,
+                                                     NotificationProperties notificationProperties,
+                                                     StreamBridge streamBridge, NotificationReplySender replySender,
+                                                     MeterRegistry meterRegistry) {
+        List<NotificationStage> stages = List.of(
+                new NotificationStage(EMAIL, emailProvider, notificationProperties.channel(EMAIL), meterRegistry),
+                new NotificationStage(SMS, smsProvider, notificationProperties.channel(SMS), meterRegistry));
+        return new NotificationPipeline(stages, notificationProperties, streamBridge, replySender, meterRegistry);
+    }
+
+    /**
+     * DOWN once the pipeline stopped because a reply or dead-letter could not be sent, OUT_OF_SERVICE while
+     * batches wait for the dead-letter topic.
+     */
+    @Bean
+    public HealthIndicator notificationPipelineHealthIndicator(NotificationPipeline notificationPipeline) {
+        return () -> {
+            Throwable failure = notificationPipeline.getFailure();
+            if (failure != null) {
+                return Health.down(failure).build();
+            }
+            int stalledBatches = notificationPipeline.getStalledBatches();
+            if (stalledBatches > 0) {
+                return Health.outOfService().withDetail("stalledBatches", stalledBatches).build();
+            }
+            return Health.up().build();
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.message.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "message.notification")
+@Getter @Setter
+public class NotificationProperties {
+
+    /**
+     * Maximum number of messages handed to a provider in one call.
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long a batch waits to fill up before it is delivered anyway.
+     */
+    private Duration batchMaxWait = Duration.ofMillis(100);
+
+    /**
+     * Number of lanes processed concurrently. Records are assigned to a lane by account number, so records of
+     * one account stay in order while different accounts are handled in parallel, independent of the partition count.
+     */
+    private int lanes = 64;
+
+    /**
+     * Acknowledged records that may wait for an earlier offset of their partition before they can be committed.
+     * When the limit is reached, the consumer pauses until the gap is closed.
+     */
+    private int maxDeferredCommits = 10_000;
+
+    /**
+     * Topic the account numbers of the delivered messages are replied to.
+     */
+    private String replyTopic = "communication-sent";
+
+    /**
+     * Encoding of the replies. JSON until every accounts instance reads the binary format, both services read both.
+     */
+    private PayloadFormat payloadFormat = PayloadFormat.JSON;
+
+    /**
+     * Output binding the messages are sent to once a stage gave up on them.
+     */
+    private String deadLetterBinding = "notificationDlt-out-0";
+
+    /**
+     * Attempts to send a batch to the dead-letter topic. When they are used up the notification binding fails and
+     * reports DOWN, the records it did not acknowledge are consumed again once it is restarted.
+     */
+    private int deadLetterMaxAttempts = 10;
+
+    /**
+     * Settings per delivery channel, keyed by the stage name.
+     */
+    private Map<String, Channel> channels = new LinkedHashMap<>();
+
+    public Channel channel(String name) {
+        return channels.computeIfAbsent(name, key -> new Channel());
+    }
+
+    public enum PayloadFormat {
+        JSON, BINARY
+    }
+
+    @Getter @Setter
+    public static class Channel {
+
+        /**
+         * Threads calling the provider of this channel.
+         */
+        private int threads = 4;
+
+        /**
+         * Provider calls that may wait for a free thread.
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * Deadline for a single provider call.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * Attempts per batch, including the first one.
+         */
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofMillis(200);
+
+        private Duration maxBackoff = Duration.ofSeconds(5);
+
+        /**
+         * Time the fake provider takes per call.
+         */
+        private Duration fakeLatency = Duration.ofMillis(20);
+
+        /**
+         * Share of the fake provider calls that fail, between 0 and 1.
+         */
+        private double fakeFailureRate = 0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.message.converter;
+
+import com.example.message.dto.AccountsMessageDto;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of the events exchanged with the accounts service.
+ * An event starts with a magic byte, the format version and the event type, followed by its fields.
+ * A bit set tells which fields are present, numbers are written as varints and strings as varint length
+ * and UTF-8 bytes. Later versions may only append fields, so older decoders ignore the bytes they do not know.
+ * The same format is implemented in the accounts service.
+ */
+public final class EventCodec {
+
+    public static final byte MAGIC = (byte) 0xEB;
+    public static final byte VERSION = 1;
+
+    private static final byte ACCOUNTS_MESSAGE = 1;
+    private static final byte ACCOUNT_NUMBER = 2;
+    private static final int HEADER_LENGTH = 3;
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private EventCodec() {
+    }
+
+    /**
+     * @return whether the bytes were written by this codec, JSON never starts with the magic byte
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC;
+    }
+
+    public static byte[] encode(AccountsMessageDto accountsMessageDto) {
+        byte[] name = utf8(accountsMessageDto.name());
+        byte[] email = utf8(accountsMessageDto.email());
+        byte[] mobileNumber = utf8(accountsMessageDto.mobileNumber());
+        ByteBuffer buffer = header(ACCOUNTS_MESSAGE, 1 + 4 * MAX_VARINT_LENGTH + length(name) + length(email)
+                + length(mobileNumber));
+        int present = (accountsMessageDto.accountNumber() != null ? 1 : 0) | (name != null ? 2 : 0)
+                | (email != null ? 4 : 0) | (mobileNumber != null ? 8 : 0);
+        buffer.put((byte) present);
+        if (accountsMessageDto.accountNumber() != null) {
+            writeVarLong(buffer, accountsMessageDto.accountNumber());
+        }
+        writeString(buffer, name);
+        writeString(buffer, email);
+        writeString(buffer, mobileNumber);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public static byte[] encode(Long accountNumber) {
+        ByteBuffer buffer = header(ACCOUNT_NUMBER, MAX_VARINT_LENGTH);
+        writeVarLong(buffer, accountNumber);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public static AccountsMessageDto decodeAccountsMessage(byte[] bytes) {
+        ByteBuffer buffer = readHeader(bytes, ACCOUNTS_MESSAGE);
+        try {
+            int present = buffer.get();
+            Long accountNumber = (present & 1) != 0 ? readVarLong(buffer) : null;
+            String name = (present & 2) != 0 ? readString(buffer) : null;
+            String email = (present & 4) != 0 ? readString(buffer) : null;
+            String mobileNumber = (present & 8) != 0 ? readString(buffer) : null;
+            return new AccountsMessageDto(accountNumber, name, email, mobileNumber);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated accounts message", ex);
+        }
+    }
+
+    public static Long decodeAccountNumber(byte[] bytes) {
+        ByteBuffer buffer = readHeader(bytes, ACCOUNT_NUMBER);
+        try {
+            return readVarLong(buffer);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated account number", ex);
+        }
+    }
+
+    private static ByteBuffer header(byte type, int maxBodyLength) {
+        return ByteBuffer.allocate(HEADER_LENGTH + maxBodyLength)
+                .put(MAGIC)
+                .put(VERSION)
+                .put(type);
+    }
+
+    private static ByteBuffer readHeader(byte[] bytes, byte expectedType) {
+        if (!isEncoded(bytes)) {
+            throw new IllegalArgumentException("Not a binary encoded event");
+        }
+        if (bytes[1] < 1) {
+            throw new IllegalArgumentException("Unsupported event format version " + bytes[1]);
+        }
+        if (bytes[2] != expectedType) {
+            throw new IllegalArgumentException("Expected event type " + expectedType + " but was " + bytes[2]);
+        }
+        return ByteBuffer.wrap(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] value) {
+        return value != null ? value.length : 0;
+    }
+
+    private static void writeString(ByteBuffer buffer, byte[] value) {
+        if (value != null) {
+            writeVarLong(buffer, value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        byte[] value = new byte[(int) length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -1,30 +1,25 @@
 package com.example.message.functions;
 
 import com.example.message.dto.AccountsMessageDto;
-import lombok.extern.slf4j.Slf4j;
+import com.example.message.notification.NotificationPipeline;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.function.Function;
 
-@Slf4j
 @Configuration
 public class MessageFunctions {
 
+    /**
+     * Sends the email and the sms for every account and replies with the account number once both are delivered.
+     * The pipeline sends the replies itself, so it can acknowledge the records once the broker has them.
+     */
     @Bean
-    public Function<AccountsMessageDto, AccountsMessageDto> email() {
-        return accountsMessageDto -> {
-            log.info("Sending email with the details: {}", accountsMessageDto.toString());
-            return accountsMessageDto;
-        };
-    }
-
-    @Bean
-    public Function<AccountsMessageDto, Long> sms() {
-        return accountsMessageDto -> {
-            log.info("Sending sms with the details: {}", accountsMessageDto.toString());
-            return accountsMessageDto.accountNumber();
-        };
+    public Function<Flux<Message<AccountsMessageDto>>, Mono<Void>> notification(NotificationPipeline notificationPipeline) {
+        return notificationPipeline::process;
     }
 
 }
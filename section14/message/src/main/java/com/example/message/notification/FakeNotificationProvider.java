@@ -0,0 +1,40 @@
+package com.example.message.notification;
+
+import com.example.message.config.NotificationProperties;
+import com.example.message.dto.AccountsMessageDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stand-in for a real provider that only logs. The latency and failure rate are configurable per channel,
+ * so the retry and dead-letter handling as well as the throughput of the pipeline can be tried out locally.
+ */
+@Slf4j
+public class FakeNotificationProvider implements NotificationProvider {
+
+    private final String channel;
+    private final NotificationProperties.Channel channelProperties;
+
+    public FakeNotificationProvider(String channel, NotificationProperties.Channel channelProperties) {
+        this.channel = channel;
+        this.channelProperties = channelProperties;
+    }
+
+    @Override
+    public void send(List<AccountsMessageDto> batch) {
+        try {
+            Thread.sleep(channelProperties.getFakeLatency());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + channel, ex);
+        }
+        if (ThreadLocalRandom.current().nextDouble() < channelProperties.getFakeFailureRate()) {
+            throw new IllegalStateException("Simulated " + channel + " provider failure");
+        }
+        for (AccountsMessageDto accountsMessageDto : batch) {
+            log.info("Sending {} with the details: {}", channel, accountsMessageDto);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.message.notification;
+
+import com.example.message.config.NotificationProperties;
+import com.example.message.converter.EventCodec;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Sends the replies with the reactive Kafka producer, so the pipeline learns when the broker has them and only
+ * then acknowledges the records they answer. The account number is the key, so the replies of an account stay
+ * in order. The value is written in the configured payload format, the accounts service reads both.
+ */
+public class KafkaNotificationReplySender implements NotificationReplySender {
+
+    private final KafkaSender<String, byte[]> kafkaSender;
+    private final NotificationProperties notificationProperties;
+
+    public KafkaNotificationReplySender(KafkaSender<String, byte[]> kafkaSender,
+                                        NotificationProperties notificationProperties) {
+        this.kafkaSender = kafkaSender;
+        this.notificationProperties = notificationProperties;
+    }
+
+    @Override
+    public Mono<Void> send(List<Long> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return Mono.empty();
+        }
+        return kafkaSender.send(Flux.fromIterable(accountNumbers)
+                        .map(accountNumber -> SenderRecord.create(new ProducerRecord<>(
+                                notificationProperties.getReplyTopic(), String.valueOf(accountNumber),
+                                encode(accountNumber, notificationProperties.getPayloadFormat())), accountNumber)))
+                .then();
+    }
+
+    /**
+     * A JSON number is just its digits, so no ObjectMapper is needed for it.
+     */
+    static byte[] encode(Long accountNumber, NotificationProperties.PayloadFormat payloadFormat) {
+        return payloadFormat == NotificationProperties.PayloadFormat.BINARY
+                ? EventCodec.encode(accountNumber)
+                : String.valueOf(accountNumber).getBytes(StandardCharsets.UTF_8);
+    }
+}
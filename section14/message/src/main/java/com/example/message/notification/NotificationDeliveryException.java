@@ -0,0 +1,14 @@
+package com.example.message.notification;
+
+import lombok.Getter;
+
+@Getter
+public class NotificationDeliveryException extends RuntimeException {
+
+    private final String stage;
+
+    public NotificationDeliveryException(String stage, Throwable cause) {
+        super(String.format("%s delivery failed: %s", stage, cause.getMessage()), cause);
+        this.stage = stage;
+    }
+}
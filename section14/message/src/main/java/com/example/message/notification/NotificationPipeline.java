@@ -0,0 +1,193 @@
+package com.example.message.notification;
+
+import com.example.message.config.NotificationProperties;
+import com.example.message.dto.AccountsMessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends every record through the delivery stages in order, in batches of up to batchSize records.
+ * Records are spread over a fixed number of lanes by account number. Each lane processes its batches one after
+ * the other, so the records of an account keep their order, while the lanes run concurrently.
+ * While the lanes are busy nothing more is requested from the reactive binder, which then pauses the Kafka
+ * consumer instead of blocking its thread. Records a stage gave up on are sent to the dead-letter topic and are
+ * not replied to. A batch is acknowledged only once the broker has its replies, so a crash in between leads to the
+ * records being consumed again instead of lost replies. Lanes acknowledge out of offset order, the receiver only
+ * commits an offset once all earlier offsets of its partition are acknowledged (see maxDeferredCommits).
+ */
+@Slf4j
+public class NotificationPipeline {
+
+    public static final String STAGE_HEADER = "x-notification-stage";
+    public static final String EXCEPTION_HEADER = "x-exception-message";
+
+    private static final Duration DEAD_LETTER_BACKOFF = Duration.ofSeconds(1);
+
+    private final List<NotificationStage> stages;
+    private final NotificationProperties notificationProperties;
+    private final StreamBridge streamBridge;
+    private final NotificationReplySender replySender;
+    private final Timer batchTimer;
+    private final Counter sentMessages;
+    private final Counter deadLetteredMessages;
+    private final AtomicInteger stalledBatches = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public NotificationPipeline(List<NotificationStage> stages, NotificationProperties notificationProperties,
+                                StreamBridge streamBridge, NotificationReplySender replySender,
+                                MeterRegistry meterRegistry) {
+        this.stages = stages;
+        this.notificationProperties = notificationProperties;
+        this.streamBridge = streamBridge;
+        this.replySender = replySender;
+        this.batchTimer = Timer.builder("notification.pipeline.latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentMessages = meterRegistry.counter("notification.pipeline.messages", "result", "sent");
+        this.deadLetteredMessages = meterRegistry.counter("notification.pipeline.messages", "result", "dead-lettered");
+        Gauge.builder("notification.pipeline.dead-letter.stalled", stalledBatches, AtomicInteger::get)
+                .description("Batches waiting for the dead-letter topic, each one holds back its lane")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replies with the account numbers of the messages delivered over all channels.
+     *
+     * @return completes when the input completes, fails when a reply or dead-letter could not be sent
+     */
+    public Mono<Void> process(Flux<Message<AccountsMessageDto>> messages) {
+        int lanes = notificationProperties.getLanes();
+        return messages
+                .groupBy(message -> lane(message.getPayload(), lanes))
+                .flatMap(lane -> lane
+                        .bufferTimeout(notificationProperties.getBatchSize(), notificationProperties.getBatchMaxWait(), true)
+                        .concatMap(this::processBatch)
+                        .concatMap(this::replyAndAcknowledge), lanes)
+                .then();
+    }
+
+    /**
+     * The number of groups is bounded by the lane count, so flatMap with that concurrency never stalls on a new group.
+     */
+    private static int lane(AccountsMessageDto accountsMessageDto, int lanes) {
+        return Math.floorMod(Objects.hashCode(accountsMessageDto.accountNumber()), lanes);
+    }
+
+    private Mono<ProcessedBatch> processBatch(List<Message<AccountsMessageDto>> batch) {
+        List<AccountsMessageDto> payloads = batch.stream().map(Message::getPayload).toList();
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return Flux.fromIterable(stages)
+                    .concatMap(stage -> stage.deliver(payloads))
+                    .then(Mono.fromSupplier(() -> {
+                        sentMessages.increment(payloads.size());
+                        return new ProcessedBatch(batch,
+                                payloads.stream().map(AccountsMessageDto::accountNumber).toList());
+                    }))
+                    .onErrorResume(NotificationDeliveryException.class, ex -> deadLetter(batch, ex)
+                            .thenReturn(new ProcessedBatch(batch, List.of())))
+                    .doFinally(signal -> sample.stop(batchTimer));
+        });
+    }
+
+    /**
+     * The records of the batch are acknowledged once the broker has their replies. If the replies were not sent,
+     * the error fails the whole pipeline and the batch is not acknowledged.
+     */
+    private Mono<Void> replyAndAcknowledge(ProcessedBatch batch) {
+        return replySender.send(batch.sent())
+                .doOnSuccess(ignored -> batch.messages().forEach(NotificationPipeline::acknowledge))
+                .doOnError(ex -> {
+                    failure.compareAndSet(null, ex);
+                    log.error("Could not send {} replies, stopping the notification pipeline", batch.sent().size(), ex);
+                });
+    }
+
+    /**
+     * Retries while the dead-letter topic is unreachable, which holds back the lane of the batch. Once
+     * deadLetterMaxAttempts are used up the error fails the whole pipeline, the batch is not acknowledged.
+     */
+    private Mono<Void> deadLetter(List<Message<AccountsMessageDto>> batch, NotificationDeliveryException ex) {
+        log.warn("Sending {} messages to the dead-letter topic: {}", batch.size(), ex.getMessage());
+        AtomicBoolean stalled = new AtomicBoolean();
+        return Mono.<Void>fromRunnable(() -> batch.forEach(message -> {
+                    MessageBuilder<AccountsMessageDto> deadLetter = MessageBuilder.withPayload(message.getPayload())
+                            .setHeader(STAGE_HEADER, ex.getStage())
+                            .setHeader(EXCEPTION_HEADER, String.valueOf(ex.getCause().getMessage()));
+                    Object key = message.getHeaders().get(KafkaHeaders.RECEIVED_KEY);
+                    if (key != null) {
+                        deadLetter.setHeader(KafkaHeaders.KEY, key);
+                    }
+                    if (!streamBridge.send(notificationProperties.getDeadLetterBinding(), deadLetter.build())) {
+                        throw new IllegalStateException("Dead-letter message was not sent");
+                    }
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .retryWhen(Retry.backoff(Math.max(0, notificationProperties.getDeadLetterMaxAttempts() - 1),
+                                DEAD_LETTER_BACKOFF)
+                        .maxBackoff(DEAD_LETTER_BACKOFF.multipliedBy(30))
+                        .doBeforeRetry(signal -> {
+                            if (stalled.compareAndSet(false, true)) {
+                                stalledBatches.incrementAndGet();
+                            }
+                            log.warn("Dead-letter topic unavailable, retrying: {}", signal.failure().toString());
+                        }))
+                .doOnSuccess(ignored -> deadLetteredMessages.increment(batch.size()))
+                .doOnError(ex -> {
+                    failure.compareAndSet(null, ex);
+                    log.error("Giving up on the dead-letter topic, stopping the notification pipeline", ex);
+                })
+                .doFinally(signal -> {
+                    if (stalled.get()) {
+                        stalledBatches.decrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * @return number of batches currently retrying the dead-letter topic
+     */
+    public int getStalledBatches() {
+        return stalledBatches.get();
+    }
+
+    /**
+     * @return the error the pipeline stopped with after a reply or dead-letter could not be sent, or null
+     */
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    private static void acknowledge(Message<?> message) {
+        ReceiverOffset offset = message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, ReceiverOffset.class);
+        if (offset != null) {
+            offset.acknowledge();
+        }
+    }
+
+    public void dispose() {
+        stages.forEach(NotificationStage::dispose);
+    }
+
+    private record ProcessedBatch(List<Message<AccountsMessageDto>> messages, List<Long> sent) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.message.notification;
+
+import com.example.message.dto.AccountsMessageDto;
+
+import java.util.List;
+
+/**
+ * Delivers notifications over one channel. Implementations may block, they are called on the channel's own threads.
+ */
+public interface NotificationProvider {
+
+    /**
+     * @param batch - Messages to deliver
+     * @throws RuntimeException if the batch was not delivered, the whole batch is then retried
+     */
+    void send(List<AccountsMessageDto> batch);
+}
@@ -0,0 +1,17 @@
+package com.example.message.notification;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Replies to the accounts service with the account numbers whose notifications were delivered.
+ */
+public interface NotificationReplySender {
+
+    /**
+     * @param accountNumbers - Account numbers of the delivered messages, in delivery order
+     * @return completes once the broker has acknowledged every reply, fails if one of them was not sent
+     */
+    Mono<Void> send(List<Long> accountNumbers);
+}
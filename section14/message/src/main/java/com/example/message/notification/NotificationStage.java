@@ -0,0 +1,72 @@
+package com.example.message.notification;
+
+import com.example.message.config.NotificationProperties;
+import com.example.message.dto.AccountsMessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.util.List;
+
+/**
+ * One delivery channel of the pipeline. The provider is called on a bounded set of threads owned by the stage,
+ * so a slow channel neither blocks the Kafka consumer nor takes threads away from the other channels.
+ */
+public class NotificationStage {
+
+    @Getter
+    private final String name;
+    private final NotificationProvider provider;
+    private final NotificationProperties.Channel channel;
+    private final Scheduler scheduler;
+    private final Timer callTimer;
+    private final Counter deliveredMessages;
+    private final Counter retriedMessages;
+    private final Counter failedMessages;
+
+    public NotificationStage(String name, NotificationProvider provider, NotificationProperties.Channel channel,
+                             MeterRegistry meterRegistry) {
+        this.name = name;
+        this.provider = provider;
+        this.channel = channel;
+        this.scheduler = Schedulers.newBoundedElastic(channel.getThreads(), channel.getQueueCapacity(),
+                "notification-" + name);
+        this.callTimer = Timer.builder("notification.stage.latency")
+                .tag("stage", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deliveredMessages = meterRegistry.counter("notification.stage.messages", "stage", name, "result", "delivered");
+        this.retriedMessages = meterRegistry.counter("notification.stage.messages", "stage", name, "result", "retried");
+        this.failedMessages = meterRegistry.counter("notification.stage.messages", "stage", name, "result", "failed");
+    }
+
+    /**
+     * Delivers the batch, retrying it with exponential backoff.
+     *
+     * @return completes once the batch is delivered, or fails with a NotificationDeliveryException
+     * when all attempts failed
+     */
+    public Mono<Void> deliver(List<AccountsMessageDto> batch) {
+        return Mono.<Void>fromRunnable(() -> callTimer.record(() -> provider.send(batch)))
+                .subscribeOn(scheduler)
+                .timeout(channel.getTimeout())
+                .retryWhen(Retry.backoff(channel.getMaxAttempts() - 1L, channel.getInitialBackoff())
+                        .maxBackoff(channel.getMaxBackoff())
+                        .doBeforeRetry(signal -> retriedMessages.increment(batch.size()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnSuccess(ignored -> deliveredMessages.increment(batch.size()))
+                .onErrorMap(ex -> {
+                    failedMessages.increment(batch.size());
+                    return new NotificationDeliveryException(name, ex);
+                });
+    }
+
+    public void dispose() {
+        scheduler.dispose();
+    }
+}
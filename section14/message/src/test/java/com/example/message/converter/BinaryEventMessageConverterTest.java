@@ -0,0 +1,82 @@
+package com.example.message.converter;
+
+import com.example.message.dto.AccountsMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryEventMessageConverterTest {
+
+    private final BinaryEventMessageConverter converter = new BinaryEventMessageConverter(new ObjectMapper());
+
+    @Test
+    void encodesAndDecodesAccountsMessage() {
+        AccountsMessageDto accountsMessageDto = new AccountsMessageDto(1234567890L, "Jürgen Müller",
+                "jurgen@example.com", "0123456789");
+
+        byte[] bytes = EventCodec.encode(accountsMessageDto);
+
+        assertTrue(EventCodec.isEncoded(bytes));
+        assertEquals(accountsMessageDto, EventCodec.decodeAccountsMessage(bytes));
+    }
+
+    @Test
+    void keepsMissingFields() {
+        AccountsMessageDto accountsMessageDto = new AccountsMessageDto(null, "Ivan", null, "");
+
+        assertEquals(accountsMessageDto, EventCodec.decodeAccountsMessage(EventCodec.encode(accountsMessageDto)));
+    }
+
+    @Test
+    void encodesAndDecodesAccountNumber() {
+        assertEquals(0L, EventCodec.decodeAccountNumber(EventCodec.encode(0L)));
+        assertEquals(Long.MAX_VALUE, EventCodec.decodeAccountNumber(EventCodec.encode(Long.MAX_VALUE)));
+        assertEquals(-1L, EventCodec.decodeAccountNumber(EventCodec.encode(-1L)));
+    }
+
+    @Test
+    void rejectsTruncatedEvent() {
+        byte[] bytes = EventCodec.encode(new AccountsMessageDto(1L, "Ivan", "ivan@example.com", "0123456789"));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertThrows(IllegalArgumentException.class, () -> EventCodec.decodeAccountsMessage(truncated));
+        assertThrows(MessageConversionException.class,
+                () -> converter.fromMessage(message(truncated), AccountsMessageDto.class));
+    }
+
+    @Test
+    void readsBinaryPayload() {
+        AccountsMessageDto accountsMessageDto = new AccountsMessageDto(1L, "Ivan", "ivan@example.com", "0123456789");
+
+        assertEquals(accountsMessageDto,
+                converter.fromMessage(message(EventCodec.encode(accountsMessageDto)), AccountsMessageDto.class));
+    }
+
+    @Test
+    void fallsBackToJsonPayload() {
+        byte[] json = """
+                {"accountNumber":1,"name":"Ivan","email":"ivan@example.com","mobileNumber":"0123456789"}"""
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new AccountsMessageDto(1L, "Ivan", "ivan@example.com", "0123456789"),
+                converter.fromMessage(message(json), AccountsMessageDto.class));
+    }
+
+    @Test
+    void readsJsonAccountNumber() {
+        assertEquals(1234L, converter.fromMessage(message("1234".getBytes(StandardCharsets.UTF_8)), Long.class));
+    }
+
+    private static Message<byte[]> message(byte[] payload) {
+        return MessageBuilder.withPayload(payload).build();
+    }
+}
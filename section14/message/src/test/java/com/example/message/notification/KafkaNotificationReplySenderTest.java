@@ -0,0 +1,61 @@
+package com.example.message.notification;
+
+import com.example.message.config.NotificationProperties;
+import com.example.message.converter.EventCodec;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class KafkaNotificationReplySenderTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaSender<String, byte[]> kafkaSender = mock(KafkaSender.class);
+    private final NotificationProperties properties = new NotificationProperties();
+    private final KafkaNotificationReplySender replySender = new KafkaNotificationReplySender(kafkaSender, properties);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendsOneRecordPerAccountKeyedByAccountNumber() {
+        when(kafkaSender.send(any())).thenReturn(Flux.empty());
+
+        replySender.send(List.of(1L, 2L)).block(Duration.ofSeconds(1));
+
+        ArgumentCaptor<Publisher<SenderRecord<String, byte[], Long>>> records =
+                ArgumentCaptor.forClass(Publisher.class);
+        verify(kafkaSender).send(records.capture());
+        List<SenderRecord<String, byte[], Long>> sent = Flux.from(records.getValue()).collectList().block();
+        assertEquals(List.of("1", "2"), sent.stream().map(SenderRecord::key).toList());
+        assertEquals(properties.getReplyTopic(), sent.get(0).topic());
+        assertArrayEquals("1".getBytes(StandardCharsets.UTF_8), sent.get(0).value());
+    }
+
+    @Test
+    void sendsNothingForAnEmptyBatch() {
+        replySender.send(List.of()).block(Duration.ofSeconds(1));
+
+        verifyNoInteractions(kafkaSender);
+    }
+
+    @Test
+    void encodesInTheConfiguredFormat() {
+        assertArrayEquals("1234".getBytes(StandardCharsets.UTF_8),
+                KafkaNotificationReplySender.encode(1234L, NotificationProperties.PayloadFormat.JSON));
+        assertEquals(1234L, EventCodec.decodeAccountNumber(
+                KafkaNotificationReplySender.encode(1234L, NotificationProperties.PayloadFormat.BINARY)));
+    }
+}
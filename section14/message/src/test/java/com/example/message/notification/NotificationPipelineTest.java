@@ -0,0 +1,157 @@
+package com.example.message.notification;
+
+import com.example.message.config.NotificationProperties;
+import com.example.message.dto.AccountsMessageDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.ReceiverOffset;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationPipelineTest {
+
+    private static final int ACCOUNTS = 8;
+    private static final int MESSAGES_PER_ACCOUNT = 6;
+
+    private final NotificationProperties properties = new NotificationProperties();
+    private final StreamBridge streamBridge = mock(StreamBridge.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> replies = Collections.synchronizedList(new ArrayList<>());
+    private NotificationReplySender replySender =
+            accountNumbers -> Mono.fromRunnable(() -> replies.addAll(accountNumbers));
+    private NotificationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        properties.setLanes(3);
+        properties.setBatchSize(2);
+        properties.setBatchMaxWait(Duration.ofMillis(10));
+        properties.setDeadLetterMaxAttempts(1);
+        NotificationProperties.Channel channel = properties.channel("email");
+        channel.setMaxAttempts(1);
+        channel.setInitialBackoff(Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.dispose();
+    }
+
+    @Test
+    void keepsOrderOfEachAccountAcrossLanes() {
+        Map<Long, List<String>> delivered = new ConcurrentHashMap<>();
+        pipeline = pipeline(batch -> {
+            // Uneven latency per account, so the lanes overtake each other
+            sleep(batch.get(0).accountNumber() % 3);
+            batch.forEach(message -> delivered
+                    .computeIfAbsent(message.accountNumber(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(message.name()));
+        });
+
+        pipeline.process(Flux.fromIterable(interleavedMessages())).block(Duration.ofSeconds(10));
+
+        assertEquals(ACCOUNTS * MESSAGES_PER_ACCOUNT, replies.size());
+        List<String> expected = IntStream.range(0, MESSAGES_PER_ACCOUNT).mapToObj(String::valueOf).toList();
+        for (long accountNumber = 1; accountNumber <= ACCOUNTS; accountNumber++) {
+            assertEquals(expected, delivered.get(accountNumber), "order of account " + accountNumber);
+        }
+    }
+
+    @Test
+    void acknowledgesEveryMessage() {
+        pipeline = pipeline(batch -> { });
+        List<Message<AccountsMessageDto>> messages = interleavedMessages();
+
+        pipeline.process(Flux.fromIterable(messages)).block(Duration.ofSeconds(10));
+
+        messages.forEach(message -> verify(
+                message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, ReceiverOffset.class)).acknowledge());
+    }
+
+    @Test
+    void doesNotAcknowledgeWhenRepliesAreNotSent() {
+        replySender = accountNumbers -> Mono.error(new IllegalStateException("broker down"));
+        pipeline = pipeline(batch -> { });
+        List<Message<AccountsMessageDto>> messages = interleavedMessages();
+
+        assertThrows(IllegalStateException.class,
+                () -> pipeline.process(Flux.fromIterable(messages)).block(Duration.ofSeconds(10)));
+
+        assertNotNull(pipeline.getFailure());
+        messages.forEach(message -> verify(
+                message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, ReceiverOffset.class), never()).acknowledge());
+    }
+
+    @Test
+    void deadLettersFailedBatchesWithoutReportingThemAsSent() {
+        when(streamBridge.send(eq(properties.getDeadLetterBinding()), any(Message.class))).thenReturn(true);
+        pipeline = pipeline(batch -> {
+            throw new IllegalStateException("provider down");
+        });
+        List<Message<AccountsMessageDto>> messages = interleavedMessages();
+
+        pipeline.process(Flux.fromIterable(messages)).block(Duration.ofSeconds(10));
+
+        assertTrue(replies.isEmpty());
+        verify(streamBridge, times(messages.size())).send(eq(properties.getDeadLetterBinding()), any(Message.class));
+        messages.forEach(message -> verify(
+                message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, ReceiverOffset.class)).acknowledge());
+    }
+
+    private NotificationPipeline pipeline(NotificationProvider provider) {
+        NotificationStage stage = new NotificationStage("email", provider, properties.channel("email"), meterRegistry);
+        return new NotificationPipeline(List.of(stage), properties, streamBridge, replySender, meterRegistry);
+    }
+
+    /**
+     * The records of all accounts interleaved, the name carries the position of the record within its account.
+     */
+    private static List<Message<AccountsMessageDto>> interleavedMessages() {
+        List<Message<AccountsMessageDto>> messages = new ArrayList<>();
+        for (int sequence = 0; sequence < MESSAGES_PER_ACCOUNT; sequence++) {
+            for (long accountNumber = 1; accountNumber <= ACCOUNTS; accountNumber++) {
+                AccountsMessageDto payload = new AccountsMessageDto(accountNumber, String.valueOf(sequence),
+                        "user" + accountNumber + "@example.com", "0" + accountNumber);
+                messages.add(MessageBuilder.withPayload(payload)
+                        .setHeader(KafkaHeaders.ACKNOWLEDGMENT, mock(ReceiverOffset.class))
+                        .build());
+            }
+        }
+        return messages;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}